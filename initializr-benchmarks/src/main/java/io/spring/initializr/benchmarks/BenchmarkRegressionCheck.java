@@ -0,0 +1,214 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compare the results of a JMH run with a baseline and fail if a benchmark regressed by
+ * more than a tolerance. Both files use the CSV result format of JMH ({@code -rf csv}),
+ * so that a result file can be committed as the new baseline once a change in performance
+ * is expected.
+ * <p>
+ * Benchmarks are identified by their name, mode and parameters. Lower is better for every
+ * mode but throughput, where higher is better. Scores are never converted: a benchmark
+ * whose unit differs from the baseline is reported as a failure. If the baseline does not
+ * exist or has no score yet, the check is skipped with a warning.
+ *
+ * @author Initializr Team
+ */
+public final class BenchmarkRegressionCheck {
+
+	private static final String THROUGHPUT_MODE = "thrpt";
+
+	private BenchmarkRegressionCheck() {
+	}
+
+	/**
+	 * Compare a result file with a baseline.
+	 * @param args the path to the result file, the path to the baseline and the
+	 * tolerance, as a fraction of the baseline score
+	 * @throws IOException if a file could not be read
+	 * @throws IllegalStateException if a benchmark regressed or if the benchmarks of the
+	 * result and the baseline differ
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 3) {
+			throw new IllegalArgumentException(
+					"Usage: BenchmarkRegressionCheck <result> <baseline> <tolerance>");
+		}
+		Path result = Paths.get(args[0]);
+		Path baseline = Paths.get(args[1]);
+		Map<String, Score> baselineScores = Files.exists(baseline) ? read(baseline)
+				: Collections.emptyMap();
+		if (baselineScores.isEmpty()) {
+			System.err.println("WARNING: No baseline score in '" + baseline
+					+ "', skipping the check. Copy '" + result + "' to '" + baseline
+					+ "' to record a baseline");
+			return;
+		}
+		List<String> failures = check(read(result), baselineScores,
+				Double.parseDouble(args[2]));
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException("Benchmarks do not match the baseline:\n  "
+					+ String.join("\n  ", failures) + "\nIf this is expected, copy '"
+					+ result + "' to '" + baseline + "'");
+		}
+	}
+
+	/**
+	 * Compare the specified scores with their baseline.
+	 * @param results the scores of the current run, keyed by benchmark, mode and
+	 * parameters
+	 * @param baseline the baseline scores, keyed by benchmark, mode and parameters
+	 * @param tolerance the tolerated regression, as a fraction of the baseline score
+	 * @return a description of each failure, or an empty list if the results match the
+	 * baseline
+	 */
+	static List<String> check(Map<String, Score> results, Map<String, Score> baseline,
+			double tolerance) {
+		List<String> failures = new ArrayList<>();
+		results.forEach((benchmark, score) -> {
+			Score expected = baseline.get(benchmark);
+			if (expected == null) {
+				failures.add(benchmark + ": no baseline score");
+			}
+			else if (!score.unit.equals(expected.unit)) {
+				failures.add(benchmark + ": measured in " + score.unit
+						+ " but baseline uses " + expected.unit);
+			}
+			else if (score.isRegression(expected, tolerance)) {
+				failures.add(String.format("%s: %.3f %s, baseline %.3f %s (%+.1f%%)",
+						benchmark, score.value, score.unit, expected.value, expected.unit,
+						(score.value - expected.value) * 100 / expected.value));
+			}
+		});
+		baseline.keySet().stream().filter((benchmark) -> !results.containsKey(benchmark))
+				.forEach((benchmark) -> failures.add(benchmark + ": no result"));
+		return failures;
+	}
+
+	/**
+	 * Read the scores of the specified JMH CSV result file.
+	 * @param file the file to read
+	 * @return the scores, keyed by benchmark, mode and parameters
+	 * @throws IOException if the file could not be read
+	 */
+	static Map<String, Score> read(Path file) throws IOException {
+		List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+		Map<String, Score> scores = new LinkedHashMap<>();
+		if (lines.isEmpty()) {
+			return scores;
+		}
+		List<String> header = parseLine(lines.get(0));
+		int benchmark = indexOf(header, "Benchmark", file);
+		int mode = indexOf(header, "Mode", file);
+		int score = indexOf(header, "Score", file);
+		int unit = indexOf(header, "Unit", file);
+		for (String line : lines.subList(1, lines.size())) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			List<String> values = parseLine(line);
+			StringBuilder key = new StringBuilder(values.get(benchmark)).append(" (")
+					.append(values.get(mode)).append(")");
+			for (int i = 0; i < header.size(); i++) {
+				if (header.get(i).startsWith("Param: ")) {
+					key.append(":").append(header.get(i).substring(7)).append("=")
+							.append(values.get(i));
+				}
+			}
+			scores.put(key.toString(),
+					new Score(values.get(mode),
+							Double.parseDouble(values.get(score).replace(',', '.')),
+							values.get(unit)));
+		}
+		return scores;
+	}
+
+	private static int indexOf(List<String> header, String column, Path file) {
+		int index = header.indexOf(column);
+		if (index == -1) {
+			throw new IllegalStateException("No '" + column + "' column in '" + file
+					+ "', expected a JMH CSV result file with " + header);
+		}
+		return index;
+	}
+
+	private static List<String> parseLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (c == '"') {
+				if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					value.append(c);
+					i++;
+				}
+				else {
+					quoted = !quoted;
+				}
+			}
+			else if (c == ',' && !quoted) {
+				values.add(value.toString());
+				value.setLength(0);
+			}
+			else {
+				value.append(c);
+			}
+		}
+		values.add(value.toString());
+		return values;
+	}
+
+	/**
+	 * The score of a benchmark.
+	 */
+	static final class Score {
+
+		private final String mode;
+
+		private final double value;
+
+		private final String unit;
+
+		Score(String mode, double value, String unit) {
+			this.mode = mode;
+			this.value = value;
+			this.unit = unit;
+		}
+
+		boolean isRegression(Score baseline, double tolerance) {
+			if (THROUGHPUT_MODE.equals(this.mode)) {
+				return this.value < baseline.value * (1 - tolerance);
+			}
+			return this.value > baseline.value * (1 + tolerance);
+		}
+
+	}
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Version#compareTo(Version)} and
+ * {@link VersionRange#match(Version)}.
+ *
+ * @author Initializr Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionBenchmark {
+
+	private final Version[] bootVersions = VersionSamples
+			.parse(VersionSamples.BOOT_VERSIONS);
+
+	private final Version[] kotlinVersions = VersionSamples
+			.parse(VersionSamples.KOTLIN_VERSIONS);
+
+	private final Version[] milestones = VersionSamples.parse(new String[] { "2.2.0.M1",
+			"2.2.0.M2", "2.2.0.M3", "2.2.0.RC1", "2.2.0.RC2" });
+
+	private final VersionRange[] ranges = VersionSamples
+			.parseRanges(VersionSamples.RANGES);
+
+	private int index;
+
+	@Benchmark
+	public int compareToWithQualifiers() {
+		next(this.bootVersions.length);
+		return this.bootVersions[this.index].compareTo(
+				this.bootVersions[(this.index + 1) % this.bootVersions.length]);
+	}
+
+	@Benchmark
+	public int compareToWithSameQualifierKind() {
+		next(this.milestones.length);
+		return this.milestones[this.index]
+				.compareTo(this.milestones[(this.index + 1) % this.milestones.length]);
+	}
+
+	@Benchmark
+	public int compareToWithoutQualifiers() {
+		next(this.kotlinVersions.length);
+		return this.kotlinVersions[this.index].compareTo(
+				this.kotlinVersions[(this.index + 1) % this.kotlinVersions.length]);
+	}
+
+	@Benchmark
+	public boolean rangeMatch() {
+		next(this.ranges.length);
+		return this.ranges[this.index]
+				.match(this.bootVersions[this.index % this.bootVersions.length]);
+	}
+
+	private void next(int length) {
+		this.index = (this.index + 1) % length;
+	}
+
+}
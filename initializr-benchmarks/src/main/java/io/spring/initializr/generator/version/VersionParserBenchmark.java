@@ -0,0 +1,93 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link VersionParser}. The {@code cached} variants use
+ * {@link VersionParser#DEFAULT} that interns what it parses, the others use a parser
+ * without cache to measure the parsing itself.
+ *
+ * @author Initializr Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionParserBenchmark {
+
+	private final VersionParser parser = new VersionParser(Collections.emptyList(), 0);
+
+	private final VersionParser latestVersionsParser = new VersionParser(
+			VersionSamples.LATEST_VERSIONS, 0);
+
+	private int index;
+
+	@Benchmark
+	public Version parseBootVersion() {
+		return this.parser.parse(next(VersionSamples.BOOT_VERSIONS));
+	}
+
+	@Benchmark
+	public Version parseBootVersionCached() {
+		return VersionParser.DEFAULT.parse(next(VersionSamples.BOOT_VERSIONS));
+	}
+
+	@Benchmark
+	public Version parseKotlinVersion() {
+		return this.parser.parse(next(VersionSamples.KOTLIN_VERSIONS));
+	}
+
+	@Benchmark
+	public Version safeParseInvalidVersion() {
+		return this.parser.safeParse(next(VersionSamples.INVALID_VERSIONS));
+	}
+
+	@Benchmark
+	public VersionRange parseRange() {
+		return this.parser.parseRange(next(VersionSamples.RANGES));
+	}
+
+	@Benchmark
+	public VersionRange parseRangeCached() {
+		return VersionParser.DEFAULT.parseRange(next(VersionSamples.RANGES));
+	}
+
+	@Benchmark
+	public VersionRange parseWildcardRange() {
+		return this.latestVersionsParser.parseRange(next(VersionSamples.WILDCARD_RANGES));
+	}
+
+	private String next(String[] samples) {
+		this.index = (this.index + 1) % samples.length;
+		return samples[this.index];
+	}
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link VersionProperty}.
+ *
+ * @author Initializr Team
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VersionPropertyBenchmark {
+
+	private final VersionProperty[] properties = Arrays
+			.stream(VersionSamples.VERSION_PROPERTIES).map(VersionProperty::of)
+			.toArray(VersionProperty[]::new);
+
+	private int index;
+
+	@Benchmark
+	public VersionProperty of() {
+		return VersionProperty.of(VersionSamples.VERSION_PROPERTIES[next()]);
+	}
+
+	@Benchmark
+	public String toCamelCaseFormat() {
+		return this.properties[next()].toCamelCaseFormat();
+	}
+
+	private int next() {
+		this.index = (this.index + 1) % this.properties.length;
+		return this.index;
+	}
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Realistic inputs for the version benchmarks, taken from the Spring Boot versions, the
+ * Kotlin versions and the compatibility ranges of boms and dependencies that the metadata
+ * typically defines.
+ *
+ * @author Initializr Team
+ */
+final class VersionSamples {
+
+	static final String[] BOOT_VERSIONS = { "1.5.19.RELEASE", "2.0.8.RELEASE",
+			"2.1.2.RELEASE", "2.1.3.BUILD-SNAPSHOT", "2.2.0.M1", "2.2.0.BUILD-SNAPSHOT",
+			"2.1.0.RC1", "2.0.0.M7" };
+
+	static final String[] KOTLIN_VERSIONS = { "1.2.71", "1.3.11", "1.3.21", "1.3.30" };
+
+	static final String[] RANGES = { "[1.5.0.RELEASE,2.0.0.M1)",
+			"[2.0.0.RELEASE,2.1.0.M1)", "[2.1.0.RELEASE,2.2.0.M1)", "2.1.0.M1",
+			"[2.0.0.M1,2.1.0.BUILD-SNAPSHOT]", "(1.5.0.RELEASE,2.2.0.BUILD-SNAPSHOT)",
+			"1.5.0.RELEASE", "[2.0.0.RELEASE,2.0.8.RELEASE]" };
+
+	static final String[] WILDCARD_RANGES = { "[2.0.0.RELEASE,2.0.x.RELEASE]",
+			"[1.5.0.RELEASE,1.5.x.BUILD-SNAPSHOT)", "2.1.x.RELEASE",
+			"[2.1.0.M1,2.2.x.BUILD-SNAPSHOT]", "[2.0.0.RELEASE,2.1.x.BUILD-SNAPSHOT)" };
+
+	static final String[] INVALID_VERSIONS = { "foo", "2.1", "2.1.0-RELEASE",
+			"2.a.0.RELEASE" };
+
+	static final String[] VERSION_PROPERTIES = { "spring-boot.version",
+			"spring-cloud.version", "kotlin.version", "spring-cloud-services.version",
+			"azure.version", "codecentric-spring-boot-admin.version",
+			"spring-boot-admin.version" };
+
+	static final List<Version> LATEST_VERSIONS = Arrays.asList(
+			Version.parse("1.5.19.RELEASE"), Version.parse("2.0.8.RELEASE"),
+			Version.parse("2.1.2.RELEASE"), Version.parse("2.1.3.BUILD-SNAPSHOT"),
+			Version.parse("2.2.0.M1"), Version.parse("2.2.0.BUILD-SNAPSHOT"));
+
+	private VersionSamples() {
+	}
+
+	static Version[] parse(String[] versions) {
+		return Arrays.stream(versions).map(Version::parse).toArray(Version[]::new);
+	}
+
+	static VersionRange[] parseRanges(String[] ranges) {
+		return Arrays.stream(ranges).map(VersionParser.DEFAULT::parseRange)
+				.toArray(VersionRange[]::new);
+	}
+
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.spring.initializr.benchmarks.BenchmarkRegressionCheck.Score;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BenchmarkRegressionCheck}.
+ *
+ * @author Initializr Team
+ */
+class BenchmarkRegressionCheckTests {
+
+	private static final String HEADER = "\"Benchmark\",\"Mode\",\"Threads\",\"Samples\","
+			+ "\"Score\",\"Score Error (99.9%)\",\"Unit\",\"Param: version\"";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readKeysScoresByBenchmarkModeAndParameters() throws IOException {
+		Map<String, Score> scores = BenchmarkRegressionCheck.read(write("result.csv",
+				HEADER, "\"test.parse\",\"thrpt\",1,5,1234.5,10.2,\"ops/ms\",\"1.0.0\"",
+				"\"test.parse\",\"avgt\",1,5,\"0,8\",0.1,\"us/op\",\"1.0.0\""));
+		assertThat(scores).containsOnlyKeys("test.parse (thrpt):version=1.0.0",
+				"test.parse (avgt):version=1.0.0");
+		assertThat(scores.get("test.parse (avgt):version=1.0.0")
+				.isRegression(new Score("avgt", 0.8, "us/op"), 0)).isFalse();
+	}
+
+	@Test
+	void readWithQuotedParameter() throws IOException {
+		Map<String, Score> scores = BenchmarkRegressionCheck.read(write("result.csv",
+				HEADER,
+				"\"test.parse\",\"thrpt\",1,5,12,1,\"ops/ms\",\"1.0, \"\"2.0\"\"\""));
+		assertThat(scores).containsOnlyKeys("test.parse (thrpt):version=1.0, \"2.0\"");
+	}
+
+	@Test
+	void readWithHeaderOnly() throws IOException {
+		assertThat(BenchmarkRegressionCheck.read(write("result.csv", HEADER))).isEmpty();
+	}
+
+	@Test
+	void readWithoutScoreColumn() throws IOException {
+		Path file = write("result.csv", "\"Benchmark\",\"Mode\",\"Unit\"");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> BenchmarkRegressionCheck.read(file))
+				.withMessageContaining("'Score'");
+	}
+
+	@Test
+	void isRegressionWithThroughputLowerThanTolerance() {
+		assertThat(new Score("thrpt", 89, "ops/ms")
+				.isRegression(new Score("thrpt", 100, "ops/ms"), 0.1)).isTrue();
+	}
+
+	@Test
+	void isRegressionWithThroughputWithinTolerance() {
+		assertThat(new Score("thrpt", 91, "ops/ms")
+				.isRegression(new Score("thrpt", 100, "ops/ms"), 0.1)).isFalse();
+	}
+
+	@Test
+	void isRegressionWithHigherThroughput() {
+		assertThat(new Score("thrpt", 200, "ops/ms")
+				.isRegression(new Score("thrpt", 100, "ops/ms"), 0.1)).isFalse();
+	}
+
+	@Test
+	void isRegressionWithAverageTimeHigherThanTolerance() {
+		assertThat(new Score("avgt", 111, "us/op")
+				.isRegression(new Score("avgt", 100, "us/op"), 0.1)).isTrue();
+	}
+
+	@Test
+	void isRegressionWithLowerAverageTime() {
+		assertThat(new Score("avgt", 50, "us/op")
+				.isRegression(new Score("avgt", 100, "us/op"), 0.1)).isFalse();
+	}
+
+	@Test
+	void checkWithMatchingScores() {
+		assertThat(BenchmarkRegressionCheck.check(
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/ms")),
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/ms")), 0.1)).isEmpty();
+	}
+
+	@Test
+	void checkWithRegression() {
+		assertThat(BenchmarkRegressionCheck.check(
+				scores("a (thrpt)", new Score("thrpt", 50, "ops/ms")),
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/ms")), 0.1)).hasSize(1)
+						.allMatch((failure) -> failure
+								.startsWith("a (thrpt): 50.000 ops/ms"));
+	}
+
+	@Test
+	void checkWithUnitMismatch() {
+		assertThat(BenchmarkRegressionCheck.check(
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/s")),
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/ms")), 0.1))
+						.containsExactly(
+								"a (thrpt): measured in ops/s but baseline uses ops/ms");
+	}
+
+	@Test
+	void checkWithDifferentBenchmarks() {
+		assertThat(BenchmarkRegressionCheck.check(
+				scores("a (thrpt)", new Score("thrpt", 100, "ops/ms")),
+				scores("a (avgt)", new Score("avgt", 100, "us/op")), 0.1))
+						.containsExactly("a (thrpt): no baseline score",
+								"a (avgt): no result");
+	}
+
+	@Test
+	void mainWithMissingBaselineSkipsCheck() throws IOException {
+		Path result = write("result.csv", HEADER,
+				"\"a\",\"thrpt\",1,5,100,1,\"ops/ms\",\"1.0.0\"");
+		BenchmarkRegressionCheck.main(new String[] { result.toString(),
+				this.directory.resolve("baseline.csv").toString(), "0.1" });
+	}
+
+	@Test
+	void mainWithEmptyBaselineSkipsCheck() throws IOException {
+		Path result = write("result.csv", HEADER,
+				"\"a\",\"thrpt\",1,5,100,1,\"ops/ms\",\"1.0.0\"");
+		Path baseline = write("baseline.csv", HEADER);
+		BenchmarkRegressionCheck
+				.main(new String[] { result.toString(), baseline.toString(), "0.1" });
+	}
+
+	@Test
+	void mainWithRegressionFails() throws IOException {
+		Path result = write("result.csv", HEADER,
+				"\"a\",\"thrpt\",1,5,50,1,\"ops/ms\",\"1.0.0\"");
+		Path baseline = write("baseline.csv", HEADER,
+				"\"a\",\"thrpt\",1,5,100,1,\"ops/ms\",\"1.0.0\"");
+		assertThatIllegalStateException()
+				.isThrownBy(() -> BenchmarkRegressionCheck.main(
+						new String[] { result.toString(), baseline.toString(), "0.1" }))
+				.withMessageContaining("a (thrpt):version=1.0.0: 50.000");
+	}
+
+	private Map<String, Score> scores(String benchmark, Score score) {
+		Map<String, Score> scores = new LinkedHashMap<>();
+		scores.put(benchmark, score);
+		return scores;
+	}
+
+	private Path write(String fileName, String... lines) throws IOException {
+		return Files.write(this.directory.resolve(fileName), Arrays.asList(lines),
+				StandardCharsets.UTF_8);
+	}
+
+}
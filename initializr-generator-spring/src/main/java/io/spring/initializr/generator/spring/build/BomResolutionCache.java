@@ -0,0 +1,150 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.BillOfMaterials;
+import io.spring.initializr.metadata.InitializrMetadata;
+
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Cache the resolution of a {@link BillOfMaterials} and its additional boms for a given
+ * platform version. The closure of every bom is computed for each platform version that
+ * the {@link InitializrMetadata} lists when the cache of a metadata instance is first
+ * requested. Other versions are resolved on every request and are not cached, so that
+ * arbitrary platform versions cannot grow the cache.
+ * <p>
+ * Caches are held in a map of soft references, so the cache of a metadata instance is
+ * kept until the JVM runs low on memory, and is computed again if it is requested after
+ * it has been reclaimed.
+ *
+ * @author Initializr Team
+ */
+final class BomResolutionCache {
+
+	private static final Map<InitializrMetadata, BomResolutionCache> caches = new ConcurrentReferenceHashMap<>();
+
+	private final InitializrMetadata metadata;
+
+	private final Map<Key, Map<String, BillOfMaterials>> closures;
+
+	private BomResolutionCache(InitializrMetadata metadata) {
+		this.metadata = metadata;
+		this.closures = precompute();
+	}
+
+	/**
+	 * Return the {@link BomResolutionCache} for the specified {@link InitializrMetadata}.
+	 * @param metadata the metadata to use
+	 * @return the cache of that metadata instance
+	 */
+	static BomResolutionCache of(InitializrMetadata metadata) {
+		return caches.computeIfAbsent(metadata, BomResolutionCache::new);
+	}
+
+	/**
+	 * Return the resolved boms required by the bom with the specified {@code id}, keyed
+	 * by bom id. Additional boms are listed before the bom that requires them.
+	 * @param bomId the id of the bom
+	 * @param platformVersion the platform version
+	 * @return an immutable map of the resolved boms, in resolution order
+	 */
+	Map<String, BillOfMaterials> resolve(String bomId, Version platformVersion) {
+		Map<String, BillOfMaterials> closure = this.closures
+				.get(new Key(bomId, platformVersion));
+		return (closure != null) ? closure : computeClosure(bomId, platformVersion);
+	}
+
+	private Map<Key, Map<String, BillOfMaterials>> precompute() {
+		Map<Key, Map<String, BillOfMaterials>> closures = new HashMap<>();
+		Map<String, BillOfMaterials> boms = this.metadata.getConfiguration().getEnv()
+				.getBoms();
+		this.metadata.getBootVersions().getContent().forEach((bootVersion) -> {
+			Version platformVersion = Version.safeParse(bootVersion.getId());
+			if (platformVersion == null) {
+				return;
+			}
+			for (String bomId : boms.keySet()) {
+				try {
+					closures.put(new Key(bomId, platformVersion),
+							computeClosure(bomId, platformVersion));
+				}
+				catch (RuntimeException ex) {
+					// Not supported for that version, let the actual request fail
+				}
+			}
+		});
+		return closures;
+	}
+
+	private Map<String, BillOfMaterials> computeClosure(String bomId,
+			Version platformVersion) {
+		Map<String, BillOfMaterials> closure = new LinkedHashMap<>();
+		resolveBom(closure, bomId, platformVersion);
+		return Collections.unmodifiableMap(closure);
+	}
+
+	private void resolveBom(Map<String, BillOfMaterials> boms, String bomId,
+			Version requestedVersion) {
+		if (!boms.containsKey(bomId)) {
+			BillOfMaterials bom = this.metadata.getConfiguration().getEnv().getBoms()
+					.get(bomId).resolve(requestedVersion);
+			bom.getAdditionalBoms()
+					.forEach((id) -> resolveBom(boms, id, requestedVersion));
+			boms.put(bomId, bom);
+		}
+	}
+
+	private static final class Key {
+
+		private final String bomId;
+
+		private final Version platformVersion;
+
+		Key(String bomId, Version platformVersion) {
+			this.bomId = bomId;
+			this.platformVersion = platformVersion;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.bomId.equals(other.bomId)
+					&& Objects.equals(this.platformVersion, other.platformVersion);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.bomId.hashCode() + Objects.hashCode(this.platformVersion);
+		}
+
+	}
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.spring.initializr.generator.buildsystem.Build;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Invoke {@link BuildCustomizer customizers} and report the wall time, CPU time and
+ * allocated bytes of each invocation to the available
+ * {@link BuildCustomizerMetricsRecorder recorders}. CPU time and allocated bytes are
+ * measured for the current thread, when the JVM supports it. If no recorder is available,
+ * customizers are invoked directly.
+ * <p>
+ * Customizers are identified by their bean name when known, or by a stable identifier
+ * derived from their type otherwise.
+ *
+ * @author Initializr Team
+ */
+public final class BuildCustomizerInstrumentation {
+
+	private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+	private static final boolean allocatedBytesSupported = ClassUtils.isPresent(
+			"com.sun.management.ThreadMXBean",
+			BuildCustomizerInstrumentation.class.getClassLoader());
+
+	private static final String LAMBDA_CLASS_MARKER = "$$Lambda$";
+
+	private final List<BuildCustomizerMetricsRecorder> recorders;
+
+	private final Map<Object, String> customizerNames;
+
+	public BuildCustomizerInstrumentation(
+			List<BuildCustomizerMetricsRecorder> recorders) {
+		this(recorders, Collections.emptyMap());
+	}
+
+	/**
+	 * Create an instance that identifies customizers by their bean name.
+	 * @param recorders the recorders to notify
+	 * @param customizers the customizer beans, keyed by bean name
+	 */
+	public BuildCustomizerInstrumentation(List<BuildCustomizerMetricsRecorder> recorders,
+			Map<String, ?> customizers) {
+		this.recorders = new ArrayList<>(recorders);
+		this.customizerNames = new IdentityHashMap<>();
+		if (!this.recorders.isEmpty()) {
+			customizers.forEach((name, customizer) -> this.customizerNames
+					.putIfAbsent(customizer, name));
+		}
+	}
+
+	/**
+	 * Invoke the specified {@link BuildCustomizer} on the specified {@link Build}. The
+	 * invocation is recorded even if the customizer fails, in which case a failure of a
+	 * recorder is added as suppressed to the failure of the customizer.
+	 * @param customizer the customizer to invoke
+	 * @param build the build to customize
+	 * @param <B> the type of the build
+	 */
+	public <B extends Build> void customize(BuildCustomizer<B> customizer, B build) {
+		if (this.recorders.isEmpty()) {
+			customizer.customize(build);
+			return;
+		}
+		long allocatedBytes = getAllocatedBytes();
+		long cpuTime = getCpuTime();
+		long start = System.nanoTime();
+		Throwable failure = null;
+		try {
+			customizer.customize(build);
+		}
+		catch (Throwable ex) {
+			failure = ex;
+			throw ex;
+		}
+		finally {
+			long wallTime = System.nanoTime() - start;
+			long cpuTimeEnd = getCpuTime();
+			long allocatedBytesEnd = getAllocatedBytes();
+			long usedCpuTime = (cpuTime != -1 && cpuTimeEnd != -1) ? cpuTimeEnd - cpuTime
+					: -1;
+			long allocated = (allocatedBytes != -1 && allocatedBytesEnd != -1)
+					? allocatedBytesEnd - allocatedBytes : -1;
+			try {
+				record(getCustomizerName(customizer), build.getClass(), wallTime,
+						usedCpuTime, allocated);
+			}
+			catch (RuntimeException ex) {
+				if (failure == null) {
+					throw ex;
+				}
+				failure.addSuppressed(ex);
+			}
+		}
+	}
+
+	private void record(String customizerName, Class<? extends Build> buildType,
+			long wallTime, long cpuTime, long allocatedBytes) {
+		for (BuildCustomizerMetricsRecorder recorder : this.recorders) {
+			recorder.record(customizerName, buildType, wallTime, cpuTime, allocatedBytes);
+		}
+	}
+
+	private String getCustomizerName(BuildCustomizer<?> customizer) {
+		String name = this.customizerNames.get(customizer);
+		if (name != null) {
+			return name;
+		}
+		// Lambda class names carry a generated suffix that changes across runs
+		String className = customizer.getClass().getName();
+		int lambdaIndex = className.indexOf(LAMBDA_CLASS_MARKER);
+		return (lambdaIndex != -1)
+				? className.substring(0, lambdaIndex + LAMBDA_CLASS_MARKER.length() - 1)
+				: className;
+	}
+
+	private static long getCpuTime() {
+		if (threadMXBean.isCurrentThreadCpuTimeSupported()
+				&& threadMXBean.isThreadCpuTimeEnabled()) {
+			return threadMXBean.getCurrentThreadCpuTime();
+		}
+		return -1;
+	}
+
+	private static long getAllocatedBytes() {
+		return (allocatedBytesSupported) ? HotSpotAllocatedBytes.get(threadMXBean) : -1;
+	}
+
+	/**
+	 * Isolate the use of {@code com.sun.management} so that it is only loaded if
+	 * available.
+	 */
+	private static final class HotSpotAllocatedBytes {
+
+		static long get(ThreadMXBean threadMXBean) {
+			if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean hotSpotThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+				if (hotSpotThreadMXBean.isThreadAllocatedMemorySupported()
+						&& hotSpotThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+					return hotSpotThreadMXBean
+							.getThreadAllocatedBytes(Thread.currentThread().getId());
+				}
+			}
+			return -1;
+		}
+
+	}
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import io.spring.initializr.generator.buildsystem.Build;
+
+/**
+ * Callback interface that can be implemented by beans wishing to record how long each
+ * {@link BuildCustomizer} takes to customize a {@link Build}, for instance to publish the
+ * measurements to a metrics registry.
+ *
+ * @author Initializr Team
+ * @see BuildCustomizerInstrumentation
+ */
+@FunctionalInterface
+public interface BuildCustomizerMetricsRecorder {
+
+	/**
+	 * Record the invocation of a {@link BuildCustomizer}.
+	 * @param customizerName the bean name of the customizer, or a stable identifier
+	 * derived from its type if it is not known
+	 * @param buildType the type of the build that was customized
+	 * @param wallTime the elapsed time, in nanoseconds
+	 * @param cpuTime the CPU time used by the current thread, in nanoseconds, or
+	 * {@code -1} if it is not available
+	 * @param allocatedBytes the number of bytes allocated by the current thread, or
+	 * {@code -1} if it is not available
+	 */
+	void record(String customizerName, Class<? extends Build> buildType, long wallTime,
+			long cpuTime, long allocatedBytes);
+
+}
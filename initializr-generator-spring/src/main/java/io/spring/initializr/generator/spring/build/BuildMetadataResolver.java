@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 import io.spring.initializr.generator.buildsystem.Build;
+import io.spring.initializr.generator.buildsystem.DependencyContainer;
 import io.spring.initializr.metadata.Dependency;
 import io.spring.initializr.metadata.InitializrMetadata;
 
@@ -55,8 +56,15 @@ public class BuildMetadataResolver {
 	 * @return {@code true} if this build defines at least a dependency with that facet
 	 */
 	public boolean hasFacet(Build build, String facet) {
-		return dependencies(build)
-				.anyMatch((dependency) -> dependency.getFacets().contains(facet));
+		DependencyContainer dependencies = build.dependencies();
+		for (int i = 0; i < dependencies.size(); i++) {
+			Dependency dependency = this.metadata.getDependencies()
+					.get(dependencies.idAt(i));
+			if (dependency != null && dependency.getFacets().contains(facet)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 }
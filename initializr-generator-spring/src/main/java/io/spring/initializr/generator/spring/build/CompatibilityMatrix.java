@@ -0,0 +1,253 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.InitializrConfiguration.Env.Maven;
+import io.spring.initializr.metadata.InitializrConfiguration.Env.Maven.ParentPom;
+import io.spring.initializr.metadata.InitializrMetadata;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * An immutable matrix of the version-dependent settings of an {@link InitializrMetadata},
+ * with one {@link Row} per platform version that the metadata supports. Rows are computed
+ * once per metadata instance so that generating a project for a supported platform
+ * version looks up a single row rather than resolving each setting independently. Boms
+ * are resolved by {@link BomResolutionCache}.
+ * <p>
+ * Matrices are held in a map of soft references, so the matrix of a metadata instance is
+ * kept until the JVM runs low on memory, and is computed again if it is requested after
+ * it has been reclaimed.
+ *
+ * @author Initializr Team
+ */
+public final class CompatibilityMatrix {
+
+	/**
+	 * The name of the version property of the Spring Boot bom.
+	 */
+	public static final String SPRING_BOOT_VERSION_PROPERTY = "spring-boot.version";
+
+	private static final Map<InitializrMetadata, CompatibilityMatrix> matrices = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Version, Row> rows;
+
+	private CompatibilityMatrix(InitializrMetadata metadata) {
+		this.rows = computeRows(metadata);
+	}
+
+	/**
+	 * Return the {@link CompatibilityMatrix} for the specified
+	 * {@link InitializrMetadata}.
+	 * @param metadata the metadata to use
+	 * @return the matrix of that metadata instance
+	 */
+	public static CompatibilityMatrix of(InitializrMetadata metadata) {
+		Assert.notNull(metadata, "Metadata must not be null");
+		return matrices.computeIfAbsent(metadata, CompatibilityMatrix::new);
+	}
+
+	/**
+	 * Return the {@link Row} of the specified platform version.
+	 * @param platformVersion the platform version
+	 * @return the row of that version, or {@code null} if the metadata does not list that
+	 * version or if its settings could not be resolved
+	 */
+	public Row get(Version platformVersion) {
+		return (platformVersion != null) ? this.rows.get(platformVersion) : null;
+	}
+
+	/**
+	 * Return the platform versions of this matrix, in the order of the metadata.
+	 * @return the platform versions
+	 */
+	public Set<Version> getPlatformVersions() {
+		return this.rows.keySet();
+	}
+
+	private static Map<Version, Row> computeRows(InitializrMetadata metadata) {
+		Map<Version, Row> rows = new LinkedHashMap<>();
+		metadata.getBootVersions().getContent().forEach((bootVersion) -> {
+			Version platformVersion = Version.safeParse(bootVersion.getId());
+			if (platformVersion != null && !rows.containsKey(platformVersion)) {
+				Row row = computeRow(metadata, platformVersion);
+				if (row != null) {
+					rows.put(platformVersion, row);
+				}
+			}
+		});
+		return Collections.unmodifiableMap(rows);
+	}
+
+	private static Row computeRow(InitializrMetadata metadata, Version platformVersion) {
+		try {
+			return new Row(platformVersion,
+					resolveKotlinVersion(metadata, platformVersion), metadata);
+		}
+		catch (RuntimeException ex) {
+			// Invalid settings for that version, let the actual request fail
+			return null;
+		}
+	}
+
+	private static String resolveKotlinVersion(InitializrMetadata metadata,
+			Version platformVersion) {
+		try {
+			return metadata.getConfiguration().getEnv().getKotlin()
+					.resolveKotlinVersion(platformVersion);
+		}
+		catch (RuntimeException ex) {
+			// No mapping for that version, let the actual request fail
+			return null;
+		}
+	}
+
+	/**
+	 * The settings of a platform version.
+	 */
+	public static final class Row {
+
+		private final Version platformVersion;
+
+		private final String kotlinVersion;
+
+		private final MavenParent mavenParent;
+
+		private final BillOfMaterials springBootBom;
+
+		private Row(Version platformVersion, String kotlinVersion,
+				InitializrMetadata metadata) {
+			String springBootVersion = platformVersion.toString();
+			this.platformVersion = platformVersion;
+			this.kotlinVersion = kotlinVersion;
+			this.mavenParent = MavenParent.resolve(
+					metadata.getConfiguration().getEnv().getMaven(), springBootVersion);
+			this.springBootBom = MetadataBuildItemMapper
+					.toBom(metadata.createSpringBootBom(springBootVersion,
+							SPRING_BOOT_VERSION_PROPERTY));
+		}
+
+		/**
+		 * Return the platform version of this row.
+		 * @return the platform version
+		 */
+		public Version getPlatformVersion() {
+			return this.platformVersion;
+		}
+
+		/**
+		 * Return the Kotlin version to use.
+		 * @return the Kotlin version or {@code null} if the metadata does not define a
+		 * Kotlin version for this platform version
+		 */
+		public String getKotlinVersion() {
+			return this.kotlinVersion;
+		}
+
+		/**
+		 * Return the parent to use for a Maven build.
+		 * @return the Maven parent
+		 */
+		public MavenParent getMavenParent() {
+			return this.mavenParent;
+		}
+
+		/**
+		 * Return the Spring Boot bom, using {@link #SPRING_BOOT_VERSION_PROPERTY} as its
+		 * version property.
+		 * @return the Spring Boot bom
+		 */
+		public BillOfMaterials getSpringBootBom() {
+			return this.springBootBom;
+		}
+
+	}
+
+	/**
+	 * An immutable copy of the parent POM of a Maven build.
+	 */
+	public static final class MavenParent {
+
+		private final String groupId;
+
+		private final String artifactId;
+
+		private final String version;
+
+		private final boolean includeSpringBootBom;
+
+		private final boolean springBootStarterParent;
+
+		private MavenParent(ParentPom parentPom, boolean springBootStarterParent) {
+			this.groupId = parentPom.getGroupId();
+			this.artifactId = parentPom.getArtifactId();
+			this.version = parentPom.getVersion();
+			this.includeSpringBootBom = parentPom.isIncludeSpringBootBom();
+			this.springBootStarterParent = springBootStarterParent;
+		}
+
+		/**
+		 * Resolve the parent POM of the specified {@link Maven} configuration for a
+		 * Spring Boot version.
+		 * @param maven the Maven configuration
+		 * @param springBootVersion the Spring Boot version
+		 * @return the Maven parent
+		 */
+		public static MavenParent resolve(Maven maven, String springBootVersion) {
+			ParentPom parentPom = maven.resolveParentPom(springBootVersion);
+			return new MavenParent(parentPom, maven.isSpringBootStarterParent(parentPom));
+		}
+
+		public String getGroupId() {
+			return this.groupId;
+		}
+
+		public String getArtifactId() {
+			return this.artifactId;
+		}
+
+		public String getVersion() {
+			return this.version;
+		}
+
+		/**
+		 * Specify if the Spring Boot bom should be added to the build.
+		 * @return {@code true} if the Spring Boot bom is required
+		 */
+		public boolean isIncludeSpringBootBom() {
+			return this.includeSpringBootBom;
+		}
+
+		/**
+		 * Specify if this parent is the {@code spring-boot-starter-parent}.
+		 * @return {@code true} if this is the Spring Boot starter parent
+		 */
+		public boolean isSpringBootStarterParent() {
+			return this.springBootStarterParent;
+		}
+
+	}
+
+}
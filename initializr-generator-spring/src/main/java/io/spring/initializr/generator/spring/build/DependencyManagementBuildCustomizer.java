@@ -23,7 +23,6 @@ import java.util.stream.Stream;
 
 import io.spring.initializr.generator.buildsystem.Build;
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
-import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.metadata.BillOfMaterials;
 import io.spring.initializr.metadata.Dependency;
 import io.spring.initializr.metadata.InitializrMetadata;
@@ -62,9 +61,9 @@ public class DependencyManagementBuildCustomizer implements BuildCustomizer<Buil
 		Map<String, BillOfMaterials> resolvedBoms = new LinkedHashMap<>();
 		Map<String, Repository> repositories = new LinkedHashMap<>();
 		mapDependencies(build).forEach((dependency) -> {
-			if (dependency.getBom() != null) {
-				resolveBom(resolvedBoms, dependency.getBom(),
-						this.projectDescription.getPlatformVersion());
+			if (dependency.getBom() != null
+					&& !resolvedBoms.containsKey(dependency.getBom())) {
+				resolveBom(dependency.getBom()).forEach(resolvedBoms::putIfAbsent);
 			}
 			if (dependency.getRepository() != null) {
 				String repositoryId = dependency.getRepository();
@@ -86,21 +85,15 @@ public class DependencyManagementBuildCustomizer implements BuildCustomizer<Buil
 		repositories.keySet().forEach((id) -> build.repositories().add(id));
 	}
 
+	private Map<String, BillOfMaterials> resolveBom(String bomId) {
+		return BomResolutionCache.of(this.metadata).resolve(bomId,
+				this.projectDescription.getPlatformVersion());
+	}
+
 	private Stream<Dependency> mapDependencies(Build build) {
 		return build.dependencies().ids()
 				.map((id) -> this.metadata.getDependencies().get(id))
 				.filter(Objects::nonNull);
 	}
 
-	private void resolveBom(Map<String, BillOfMaterials> boms, String bomId,
-			Version requestedVersion) {
-		if (!boms.containsKey(bomId)) {
-			BillOfMaterials bom = this.metadata.getConfiguration().getEnv().getBoms()
-					.get(bomId).resolve(requestedVersion);
-			bom.getAdditionalBoms()
-					.forEach((id) -> resolveBom(boms, id, requestedVersion));
-			boms.put(bomId, bom);
-		}
-	}
-
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.BuildItemResolver;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.metadata.InitializrMetadata;
+
+/**
+ * A {@link BuildItemResolver} that maps all the build items of the
+ * {@link InitializrMetadata} once and shares the resulting instances, so that resolving
+ * an item is a simple lookup. Items are mapped again, and swapped atomically, when the
+ * supplier provides a different metadata instance.
+ *
+ * @author Initializr Team
+ * @see MetadataBuildItemResolver
+ */
+public final class InterningMetadataBuildItemResolver implements BuildItemResolver {
+
+	private final Supplier<InitializrMetadata> metadata;
+
+	private final AtomicReference<BuildItems> buildItems = new AtomicReference<>();
+
+	/**
+	 * Create a new instance for the metadata provided by the specified supplier.
+	 * @param metadata a supplier of the current {@link InitializrMetadata}
+	 */
+	public InterningMetadataBuildItemResolver(Supplier<InitializrMetadata> metadata) {
+		this.metadata = metadata;
+	}
+
+	/**
+	 * Create a new instance for the specified {@link InitializrMetadata}.
+	 * @param metadata the metadata to use
+	 */
+	public InterningMetadataBuildItemResolver(InitializrMetadata metadata) {
+		this(() -> metadata);
+	}
+
+	@Override
+	public Dependency resolveDependency(String id) {
+		return getBuildItems().dependencies.get(id);
+	}
+
+	@Override
+	public BillOfMaterials resolveBom(String id) {
+		return getBuildItems().boms.get(id);
+	}
+
+	@Override
+	public MavenRepository resolveRepository(String id) {
+		return getBuildItems().repositories.get(id);
+	}
+
+	private BuildItems getBuildItems() {
+		InitializrMetadata metadata = this.metadata.get();
+		BuildItems current = this.buildItems.get();
+		if (current != null && current.metadata == metadata) {
+			return current;
+		}
+		BuildItems candidate = new BuildItems(metadata);
+		this.buildItems.compareAndSet(current, candidate);
+		return candidate;
+	}
+
+	/**
+	 * The build items of a given {@link InitializrMetadata} instance.
+	 */
+	private static final class BuildItems {
+
+		private final InitializrMetadata metadata;
+
+		private final Map<String, Dependency> dependencies;
+
+		private final Map<String, BillOfMaterials> boms;
+
+		private final Map<String, MavenRepository> repositories;
+
+		BuildItems(InitializrMetadata metadata) {
+			this.metadata = metadata;
+			this.dependencies = mapDependencies(metadata);
+			this.boms = mapBoms(metadata);
+			this.repositories = mapRepositories(metadata);
+		}
+
+		private static Map<String, Dependency> mapDependencies(
+				InitializrMetadata metadata) {
+			Map<String, Dependency> dependencies = new HashMap<>();
+			metadata.getDependencies().getAll().forEach((dependency) -> {
+				Dependency item = MetadataBuildItemMapper.toDependency(dependency);
+				dependencies.put(dependency.getId(), item);
+				dependency.getAliases().forEach((alias) -> dependencies.put(alias, item));
+			});
+			return Collections.unmodifiableMap(dependencies);
+		}
+
+		private static Map<String, BillOfMaterials> mapBoms(InitializrMetadata metadata) {
+			Map<String, BillOfMaterials> boms = new HashMap<>();
+			metadata.getConfiguration().getEnv().getBoms().forEach(
+					(id, bom) -> boms.put(id, MetadataBuildItemMapper.toBom(bom)));
+			return Collections.unmodifiableMap(boms);
+		}
+
+		private static Map<String, MavenRepository> mapRepositories(
+				InitializrMetadata metadata) {
+			Map<String, MavenRepository> repositories = new HashMap<>();
+			metadata.getConfiguration().getEnv().getRepositories()
+					.forEach((id, repository) -> repositories.put(id,
+							MetadataBuildItemMapper.toRepository(id, repository)));
+			repositories.put(MavenRepository.MAVEN_CENTRAL.getId(),
+					MavenRepository.MAVEN_CENTRAL);
+			return Collections.unmodifiableMap(repositories);
+		}
+
+	}
+
+}
@@ -25,6 +25,7 @@ import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuildWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.Utf8ByteBufferWriter;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import io.spring.initializr.generator.spring.build.BuildWriter;
 
@@ -51,7 +52,7 @@ public class GradleBuildProjectContributor implements BuildWriter, ProjectContri
 	@Override
 	public void contribute(Path projectRoot) throws IOException {
 		Path buildGradle = Files.createFile(projectRoot.resolve("build.gradle"));
-		writeBuild(Files.newBufferedWriter(buildGradle));
+		writeBuild(Utf8ByteBufferWriter.create(buildGradle));
 	}
 
 	@Override
@@ -31,8 +31,8 @@ public class GradleConfigurationBuildCustomizer implements BuildCustomizer<Gradl
 
 	@Override
 	public void customize(GradleBuild build) {
-		boolean providedRuntimeUsed = build.dependencies().items()
-				.anyMatch((dependency) -> DependencyScope.PROVIDED_RUNTIME
+		boolean providedRuntimeUsed = build.dependencies()
+				.anyMatch((id, dependency) -> DependencyScope.PROVIDED_RUNTIME
 						.equals(dependency.getScope()));
 		boolean war = build.getPlugins().stream()
 				.anyMatch((plugin) -> plugin.getId().equals("war"));
@@ -32,8 +32,11 @@ import io.spring.initializr.generator.packaging.war.WarPackaging;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
 import io.spring.initializr.generator.spring.build.BuildCustomizer;
+import io.spring.initializr.generator.spring.build.BuildCustomizerInstrumentation;
+import io.spring.initializr.generator.spring.build.BuildCustomizerMetricsRecorder;
 import io.spring.initializr.generator.spring.util.LambdaSafe;
 
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -57,18 +60,25 @@ public class GradleProjectGenerationConfiguration {
 
 	@Bean
 	public GradleBuild gradleBuild(ObjectProvider<BuildItemResolver> buildItemResolver,
-			ObjectProvider<BuildCustomizer<?>> buildCustomizers) {
+			ObjectProvider<BuildCustomizer<?>> buildCustomizers,
+			ObjectProvider<BuildCustomizerMetricsRecorder> metricsRecorders,
+			ListableBeanFactory beanFactory) {
 		return createGradleBuild(buildItemResolver.getIfAvailable(),
-				buildCustomizers.orderedStream().collect(Collectors.toList()));
+				buildCustomizers.orderedStream().collect(Collectors.toList()),
+				new BuildCustomizerInstrumentation(
+						metricsRecorders.orderedStream().collect(Collectors.toList()),
+						beanFactory.getBeansOfType(BuildCustomizer.class)));
 	}
 
 	@SuppressWarnings("unchecked")
 	private GradleBuild createGradleBuild(BuildItemResolver buildItemResolver,
-			List<BuildCustomizer<?>> buildCustomizers) {
+			List<BuildCustomizer<?>> buildCustomizers,
+			BuildCustomizerInstrumentation instrumentation) {
 		GradleBuild build = (buildItemResolver != null)
 				? new GradleBuild(buildItemResolver) : new GradleBuild();
 		LambdaSafe.callbacks(BuildCustomizer.class, buildCustomizers, build)
-				.invoke((customizer) -> customizer.customize(build));
+				.invoke((customizer) -> instrumentation.customize(customizer, build));
+		build.freeze();
 		return build;
 	}
 
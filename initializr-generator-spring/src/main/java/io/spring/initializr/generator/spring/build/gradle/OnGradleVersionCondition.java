@@ -16,11 +16,13 @@
 
 package io.spring.initializr.generator.spring.build.gradle;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.spring.initializr.generator.condition.PlatformVersionRanges;
 import io.spring.initializr.generator.condition.ProjectGenerationCondition;
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
-import io.spring.initializr.generator.version.Version;
-import io.spring.initializr.generator.version.VersionParser;
-import io.spring.initializr.generator.version.VersionRange;
 
 import org.springframework.context.annotation.ConditionContext;
 import org.springframework.core.type.AnnotatedTypeMetadata;
@@ -33,30 +35,28 @@ import org.springframework.core.type.AnnotatedTypeMetadata;
  */
 public class OnGradleVersionCondition extends ProjectGenerationCondition {
 
-	private static final VersionRange GRADLE_3_BOOT_VERSION_RANGE = VersionParser.DEFAULT
-			.parseRange("[1.5.0.M1,2.0.0.M1)");
-
-	private static final VersionRange GRADLE_4_BOOT_VERSION_RANGE = VersionParser.DEFAULT
-			.parseRange("2.0.0.M1");
+	/**
+	 * The platform version range of each supported Gradle generation.
+	 */
+	static final Map<String, String> GRADLE_VERSION_RANGES;
+
+	static {
+		Map<String, String> ranges = new LinkedHashMap<>();
+		ranges.put("3", "[1.5.0.M1,2.0.0.M1)");
+		ranges.put("4", "2.0.0.M1");
+		ranges.values().forEach(PlatformVersionRanges::get);
+		GRADLE_VERSION_RANGES = Collections.unmodifiableMap(ranges);
+	}
 
 	@Override
 	protected boolean matches(ResolvedProjectDescription projectDescription,
 			ConditionContext context, AnnotatedTypeMetadata metadata) {
-		Version springBootVersion = projectDescription.getPlatformVersion();
-		String gradleVersion;
-		if (GRADLE_3_BOOT_VERSION_RANGE.match(springBootVersion)) {
-			gradleVersion = "3";
-		}
-		else if (GRADLE_4_BOOT_VERSION_RANGE.match(springBootVersion)) {
-			gradleVersion = "4";
-		}
-		else {
-			return false;
-		}
 		String value = (String) metadata
 				.getAnnotationAttributes(ConditionalOnGradleVersion.class.getName())
 				.get("value");
-		return gradleVersion.equals(value);
+		String range = GRADLE_VERSION_RANGES.get(value);
+		return range != null && PlatformVersionRanges.get(range)
+				.match(projectDescription.getPlatformVersion());
 	}
 
 }
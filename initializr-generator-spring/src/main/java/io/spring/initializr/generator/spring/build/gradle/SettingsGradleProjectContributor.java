@@ -24,6 +24,7 @@ import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
 import io.spring.initializr.generator.buildsystem.gradle.GradleSettingsWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.Utf8ByteBufferWriter;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -50,7 +51,7 @@ class SettingsGradleProjectContributor implements ProjectContributor {
 	public void contribute(Path projectRoot) throws IOException {
 		Path settingsGradle = Files.createFile(projectRoot.resolve("settings.gradle"));
 		try (IndentingWriter writer = this.indentingWriterFactory.createIndentingWriter(
-				"gradle", Files.newBufferedWriter(settingsGradle))) {
+				"gradle", Utf8ByteBufferWriter.create(settingsGradle))) {
 			this.settingsWriter.writeTo(writer, this.build);
 		}
 	}
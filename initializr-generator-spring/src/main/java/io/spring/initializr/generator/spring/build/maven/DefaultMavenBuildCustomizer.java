@@ -17,12 +17,14 @@
 package io.spring.initializr.generator.spring.build.maven;
 
 import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.BomContainer;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
 import io.spring.initializr.generator.spring.build.BuildCustomizer;
+import io.spring.initializr.generator.spring.build.CompatibilityMatrix;
+import io.spring.initializr.generator.spring.build.CompatibilityMatrix.MavenParent;
 import io.spring.initializr.generator.spring.build.MetadataBuildItemMapper;
 import io.spring.initializr.metadata.InitializrConfiguration.Env.Maven;
-import io.spring.initializr.metadata.InitializrConfiguration.Env.Maven.ParentPom;
 import io.spring.initializr.metadata.InitializrMetadata;
 
 /**
@@ -53,17 +55,21 @@ public class DefaultMavenBuildCustomizer implements BuildCustomizer<MavenBuild>
 		Maven maven = this.metadata.getConfiguration().getEnv().getMaven();
 		String springBootVersion = this.projectDescription.getPlatformVersion()
 				.toString();
-		ParentPom parentPom = maven.resolveParentPom(springBootVersion);
+		CompatibilityMatrix.Row row = CompatibilityMatrix.of(this.metadata)
+				.get(this.projectDescription.getPlatformVersion());
+		MavenParent parentPom = (row != null) ? row.getMavenParent()
+				: MavenParent.resolve(maven, springBootVersion);
 		if (parentPom.isIncludeSpringBootBom()) {
-			String versionProperty = "spring-boot.version";
-			BillOfMaterials springBootBom = MetadataBuildItemMapper.toBom(this.metadata
-					.createSpringBootBom(springBootVersion, versionProperty));
+			String versionProperty = CompatibilityMatrix.SPRING_BOOT_VERSION_PROPERTY;
+			BillOfMaterials springBootBom = (row != null) ? row.getSpringBootBom()
+					: MetadataBuildItemMapper.toBom(this.metadata
+							.createSpringBootBom(springBootVersion, versionProperty));
 			if (!hasBom(build, springBootBom)) {
 				build.addInternalVersionProperty(versionProperty, springBootVersion);
 				build.boms().add("spring-boot", springBootBom);
 			}
 		}
-		if (!maven.isSpringBootStarterParent(parentPom)) {
+		if (!parentPom.isSpringBootStarterParent()) {
 			build.setProperty("project.build.sourceEncoding", "UTF-8");
 			build.setProperty("project.reporting.outputEncoding", "UTF-8");
 		}
@@ -72,9 +78,15 @@ public class DefaultMavenBuildCustomizer implements BuildCustomizer<MavenBuild>
 	}
 
 	private boolean hasBom(MavenBuild build, BillOfMaterials bom) {
-		return build.boms().items()
-				.anyMatch((candidate) -> candidate.getGroupId().equals(bom.getGroupId())
-						&& candidate.getArtifactId().equals(bom.getArtifactId()));
+		BomContainer boms = build.boms();
+		for (int i = 0; i < boms.size(); i++) {
+			BillOfMaterials candidate = boms.itemAt(i);
+			if (candidate.getGroupId().equals(bom.getGroupId())
+					&& candidate.getArtifactId().equals(bom.getArtifactId())) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 }
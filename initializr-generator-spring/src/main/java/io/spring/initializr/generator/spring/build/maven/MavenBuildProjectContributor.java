@@ -25,6 +25,7 @@ import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildWriter;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.Utf8ByteBufferWriter;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 import io.spring.initializr.generator.spring.build.BuildWriter;
 
@@ -52,7 +53,7 @@ public class MavenBuildProjectContributor implements BuildWriter, ProjectContrib
 	@Override
 	public void contribute(Path projectRoot) throws IOException {
 		Path pomFile = Files.createFile(projectRoot.resolve("pom.xml"));
-		writeBuild(Files.newBufferedWriter(pomFile));
+		writeBuild(Utf8ByteBufferWriter.create(pomFile));
 	}
 
 	@Override
@@ -28,8 +28,11 @@ import io.spring.initializr.generator.io.IndentingWriterFactory;
 import io.spring.initializr.generator.packaging.war.WarPackaging;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
 import io.spring.initializr.generator.spring.build.BuildCustomizer;
+import io.spring.initializr.generator.spring.build.BuildCustomizerInstrumentation;
+import io.spring.initializr.generator.spring.build.BuildCustomizerMetricsRecorder;
 import io.spring.initializr.generator.spring.util.LambdaSafe;
 
+import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 
@@ -50,18 +53,25 @@ public class MavenProjectGenerationConfiguration {
 
 	@Bean
 	public MavenBuild mavenBuild(ObjectProvider<BuildItemResolver> buildItemResolver,
-			ObjectProvider<BuildCustomizer<?>> buildCustomizers) {
+			ObjectProvider<BuildCustomizer<?>> buildCustomizers,
+			ObjectProvider<BuildCustomizerMetricsRecorder> metricsRecorders,
+			ListableBeanFactory beanFactory) {
 		return createBuild(buildItemResolver.getIfAvailable(),
-				buildCustomizers.orderedStream().collect(Collectors.toList()));
+				buildCustomizers.orderedStream().collect(Collectors.toList()),
+				new BuildCustomizerInstrumentation(
+						metricsRecorders.orderedStream().collect(Collectors.toList()),
+						beanFactory.getBeansOfType(BuildCustomizer.class)));
 	}
 
 	@SuppressWarnings("unchecked")
 	private MavenBuild createBuild(BuildItemResolver buildItemResolver,
-			List<BuildCustomizer<?>> buildCustomizers) {
+			List<BuildCustomizer<?>> buildCustomizers,
+			BuildCustomizerInstrumentation instrumentation) {
 		MavenBuild build = (buildItemResolver != null) ? new MavenBuild(buildItemResolver)
 				: new MavenBuild();
 		LambdaSafe.callbacks(BuildCustomizer.class, buildCustomizers, build)
-				.invoke((customizer) -> customizer.customize(build));
+				.invoke((customizer) -> instrumentation.customize(customizer, build));
+		build.freeze();
 		return build;
 	}
 
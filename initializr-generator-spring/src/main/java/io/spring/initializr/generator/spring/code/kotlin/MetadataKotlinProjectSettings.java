@@ -17,6 +17,8 @@
 package io.spring.initializr.generator.spring.code.kotlin;
 
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
+import io.spring.initializr.generator.spring.build.CompatibilityMatrix;
+import io.spring.initializr.generator.version.Version;
 import io.spring.initializr.metadata.InitializrMetadata;
 
 /**
@@ -30,8 +32,19 @@ public class MetadataKotlinProjectSettings implements KotlinProjectSettings {
 
 	public MetadataKotlinProjectSettings(ResolvedProjectDescription projectDescription,
 			InitializrMetadata metadata) {
-		this.version = metadata.getConfiguration().getEnv().getKotlin()
-				.resolveKotlinVersion(projectDescription.getPlatformVersion());
+		this.version = resolveKotlinVersion(projectDescription.getPlatformVersion(),
+				metadata);
+	}
+
+	private static String resolveKotlinVersion(Version platformVersion,
+			InitializrMetadata metadata) {
+		CompatibilityMatrix.Row row = CompatibilityMatrix.of(metadata)
+				.get(platformVersion);
+		if (row != null && row.getKotlinVersion() != null) {
+			return row.getKotlinVersion();
+		}
+		return metadata.getConfiguration().getEnv().getKotlin()
+				.resolveKotlinVersion(platformVersion);
 	}
 
 	@Override
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.io.template.TemplateRenderer;
 import io.spring.initializr.generator.io.text.BulletedSection;
 import io.spring.initializr.generator.io.text.Section;
 
@@ -41,25 +42,28 @@ public final class GettingStartedSection extends PreDefinedSection {
 
 	private final BulletedSection<SupportingInfrastructureElement> infrastructureElements;
 
-	GettingStartedSection(MustacheTemplateRenderer templateRenderer) {
+	GettingStartedSection(MustacheTemplateRenderer mustacheTemplateRenderer) {
 		super("Getting Started");
+		TemplateRenderer templateRenderer = new GettingStartedTemplateRenderer(
+				mustacheTemplateRenderer);
 		this.referenceDocs = new BulletedSection<>(templateRenderer,
-				"reference-documentation");
-		this.guides = new BulletedSection<>(templateRenderer, "guides");
-		this.additionalLinks = new BulletedSection<>(templateRenderer,
-				"additional-links");
+				"reference-documentation", "items", Link::estimatedSize);
+		this.guides = new BulletedSection<>(templateRenderer, "guides", "items",
+				Link::estimatedSize);
+		this.additionalLinks = new BulletedSection<>(templateRenderer, "additional-links",
+				"items", Link::estimatedSize);
 		this.requiredDependencies = new BulletedSection<>(templateRenderer,
-				"required-dependencies");
+				"required-dependencies", "items", RequiredDependency::estimatedSize);
 		this.infrastructureElements = new BulletedSection<>(templateRenderer,
-				"supporting-infrastructure");
+				"supporting-infrastructure", "items",
+				SupportingInfrastructureElement::estimatedSize);
 	}
 
 	@Override
 	public boolean isEmpty() {
-		return referenceDocs().isEmpty() && guides().isEmpty()
-				&& additionalLinks().isEmpty() && infrastructureElements().isEmpty()
-				&& requiredDependencies().isEmpty() && infrastructureElements().isEmpty()
-				&& super.isEmpty();
+		return this.referenceDocs.isEmpty() && this.guides.isEmpty()
+				&& this.additionalLinks.isEmpty() && this.requiredDependencies.isEmpty()
+				&& this.infrastructureElements.isEmpty() && super.isEmpty();
 	}
 
 	@Override
@@ -121,6 +125,10 @@ public final class GettingStartedSection extends PreDefinedSection {
 		return this.infrastructureElements;
 	}
 
+	private static int length(String value) {
+		return (value != null) ? value.length() : 0;
+	}
+
 	/**
 	 * Internal representation of a link.
 	 */
@@ -143,6 +151,10 @@ public final class GettingStartedSection extends PreDefinedSection {
 			return this.description;
 		}
 
+		int estimatedSize() {
+			return length(this.href) + length(this.description) + 7;
+		}
+
 	}
 
 	/**
@@ -167,6 +179,10 @@ public final class GettingStartedSection extends PreDefinedSection {
 			return this.description;
 		}
 
+		int estimatedSize() {
+			return length(this.name) + length(this.description) + 5;
+		}
+
 	}
 
 	/**
@@ -199,6 +215,11 @@ public final class GettingStartedSection extends PreDefinedSection {
 			return this.location;
 		}
 
+		int estimatedSize() {
+			return length(this.name) + length(this.description) + length(this.location)
+					+ 9;
+		}
+
 	}
 
 }
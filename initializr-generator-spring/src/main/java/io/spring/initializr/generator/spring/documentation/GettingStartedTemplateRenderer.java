@@ -0,0 +1,306 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.documentation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.io.template.TemplateRenderer;
+import io.spring.initializr.generator.spring.documentation.GettingStartedSection.Link;
+import io.spring.initializr.generator.spring.documentation.GettingStartedSection.RequiredDependency;
+import io.spring.initializr.generator.spring.documentation.GettingStartedSection.SupportingInfrastructureElement;
+
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StreamUtils;
+
+/**
+ * A {@link TemplateRenderer} for the templates of the {@link GettingStartedSection} that
+ * writes their typed items directly rather than interpreting the Mustache templates.
+ * <p>
+ * The content is derived from the template resources of the delegate: a template that
+ * consists of a static header followed by a single {@code items} section of one line is
+ * rendered directly, escaping values the same way Mustache does. The delegate renders any
+ * other template, as well as all templates if it is not a plain
+ * {@link MustacheTemplateRenderer} or if it {@link MustacheTemplateRenderer#isWatched()
+ * watches} its templates for changes.
+ *
+ * @author Initializr Team
+ */
+class GettingStartedTemplateRenderer implements TemplateRenderer {
+
+	private static final Map<String, ItemType<?>> ITEM_TYPES;
+
+	static {
+		ItemType<Link> link = new ItemType<>(Link.class)
+				.property("description", Link::getDescription)
+				.property("href", Link::getHref);
+		Map<String, ItemType<?>> all = new HashMap<>();
+		all.put("reference-documentation", link);
+		all.put("guides", link);
+		all.put("additional-links", link);
+		all.put("required-dependencies",
+				new ItemType<>(RequiredDependency.class)
+						.property("name", RequiredDependency::getName)
+						.property("description", RequiredDependency::getDescription));
+		all.put("supporting-infrastructure",
+				new ItemType<>(SupportingInfrastructureElement.class)
+						.property("name", SupportingInfrastructureElement::getName)
+						.property("description",
+								SupportingInfrastructureElement::getDescription)
+						.property("location",
+								SupportingInfrastructureElement::getLocation));
+		ITEM_TYPES = Collections.unmodifiableMap(all);
+	}
+
+	private static final Map<String, Optional<BulletedTemplate<?>>> templates = new ConcurrentHashMap<>();
+
+	private static final ResourceLoader resourceLoader = new DefaultResourceLoader();
+
+	private final TemplateRenderer delegate;
+
+	GettingStartedTemplateRenderer(TemplateRenderer delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public String render(String templateName, Map<String, ?> model) throws IOException {
+		BulletedTemplate<?> template = getTemplate(templateName);
+		if (template != null) {
+			String content = template.render(model.get("items"));
+			if (content != null) {
+				return content;
+			}
+		}
+		return this.delegate.render(templateName, model);
+	}
+
+	private BulletedTemplate<?> getTemplate(String templateName) {
+		ItemType<?> itemType = ITEM_TYPES.get(templateName);
+		if (itemType == null || this.delegate.getClass() != MustacheTemplateRenderer.class
+				|| ((MustacheTemplateRenderer) this.delegate).isWatched()) {
+			return null;
+		}
+		String location = ((MustacheTemplateRenderer) this.delegate)
+				.getTemplateLocation(templateName);
+		return templates
+				.computeIfAbsent(location,
+						(key) -> Optional
+								.ofNullable(BulletedTemplate.parse(itemType, key)))
+				.orElse(null);
+	}
+
+	private static void appendEscaped(StringBuilder out, String name, String value) {
+		if (value == null) {
+			throw new IllegalStateException("No value for '" + name + "'");
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '&':
+				out.append("&amp;");
+				break;
+			case '\'':
+				out.append("&#39;");
+				break;
+			case '"':
+				out.append("&quot;");
+				break;
+			case '<':
+				out.append("&lt;");
+				break;
+			case '>':
+				out.append("&gt;");
+				break;
+			case '`':
+				out.append("&#x60;");
+				break;
+			case '=':
+				out.append("&#x3D;");
+				break;
+			default:
+				out.append(c);
+			}
+		}
+	}
+
+	/**
+	 * The type of the items of a template, with the properties a template may refer to.
+	 *
+	 * @param <T> the type of the items
+	 */
+	private static final class ItemType<T> {
+
+		private final Class<T> type;
+
+		private final Map<String, Function<T, String>> properties = new LinkedHashMap<>();
+
+		ItemType(Class<T> type) {
+			this.type = type;
+		}
+
+		ItemType<T> property(String name, Function<T, String> accessor) {
+			this.properties.put(name, accessor);
+			return this;
+		}
+
+	}
+
+	/**
+	 * A template with a static header followed by one line per item.
+	 *
+	 * @param <T> the type of the items
+	 */
+	private static final class BulletedTemplate<T> {
+
+		private static final String SECTION_START = "{{#items}}\n";
+
+		private static final String SECTION_END = "\n{{/items}}";
+
+		private static final Pattern VARIABLE = Pattern.compile("\\{\\{(\\w+)\\}\\}");
+
+		private static final int ESTIMATED_ITEM_SIZE = 96;
+
+		private final Class<T> itemType;
+
+		private final String header;
+
+		private final String[] literals;
+
+		private final String[] names;
+
+		private final List<Function<T, String>> accessors;
+
+		private BulletedTemplate(Class<T> itemType, String header, String[] literals,
+				String[] names, List<Function<T, String>> accessors) {
+			this.itemType = itemType;
+			this.header = header;
+			this.literals = literals;
+			this.names = names;
+			this.accessors = accessors;
+		}
+
+		/**
+		 * Parse the template at the specified location.
+		 * @param itemType the type of the items
+		 * @param location the location of the template
+		 * @param <T> the type of the items
+		 * @return the template or {@code null} if the template could not be read or is
+		 * not a bulleted template of that item type
+		 */
+		static <T> BulletedTemplate<T> parse(ItemType<T> itemType, String location) {
+			String content = read(location);
+			if (content == null) {
+				return null;
+			}
+			if (content.endsWith(SECTION_END + "\n")) {
+				content = content.substring(0, content.length() - 1);
+			}
+			int start = content.indexOf(SECTION_START);
+			if (start == -1 || !content.endsWith(SECTION_END)) {
+				return null;
+			}
+			String header = content.substring(0, start);
+			String line = content.substring(start + SECTION_START.length(),
+					content.length() - SECTION_END.length());
+			if ((!header.isEmpty() && !header.endsWith("\n")) || header.contains("{{")
+					|| line.contains("\n") || line.contains("\r")) {
+				return null;
+			}
+			List<String> literals = new ArrayList<>();
+			List<String> names = new ArrayList<>();
+			List<Function<T, String>> accessors = new ArrayList<>();
+			Matcher matcher = VARIABLE.matcher(line);
+			int position = 0;
+			while (matcher.find()) {
+				Function<T, String> accessor = itemType.properties.get(matcher.group(1));
+				if (accessor == null) {
+					return null;
+				}
+				literals.add(line.substring(position, matcher.start()));
+				names.add(matcher.group(1));
+				accessors.add(accessor);
+				position = matcher.end();
+			}
+			literals.add(line.substring(position) + "\n");
+			for (String literal : literals) {
+				if (literal.contains("{{") || literal.contains("}}")) {
+					return null;
+				}
+			}
+			return new BulletedTemplate<>(itemType.type, header,
+					literals.toArray(new String[0]), names.toArray(new String[0]),
+					accessors);
+		}
+
+		private static String read(String location) {
+			Resource resource = resourceLoader.getResource(location);
+			try (InputStream in = resource.getInputStream()) {
+				return StreamUtils.copyToString(in, StandardCharsets.UTF_8);
+			}
+			catch (IOException ex) {
+				// Let the delegate report the missing template
+				return null;
+			}
+		}
+
+		/**
+		 * Render the specified items, or return {@code null} if they are not supported.
+		 * @param items the items
+		 * @return the rendered content or {@code null}
+		 */
+		String render(Object items) {
+			if (!(items instanceof List)) {
+				return null;
+			}
+			List<?> candidates = (List<?>) items;
+			for (Object candidate : candidates) {
+				if (!this.itemType.isInstance(candidate)) {
+					return null;
+				}
+			}
+			StringBuilder out = new StringBuilder(
+					this.header.length() + candidates.size() * ESTIMATED_ITEM_SIZE);
+			out.append(this.header);
+			for (Object candidate : candidates) {
+				T item = this.itemType.cast(candidate);
+				for (int i = 0; i < this.names.length; i++) {
+					out.append(this.literals[i]);
+					appendEscaped(out, this.names[i], this.accessors.get(i).apply(item));
+				}
+				out.append(this.literals[this.names.length]);
+			}
+			return out.toString();
+		}
+
+	}
+
+}
@@ -18,10 +18,16 @@ package io.spring.initializr.generator.spring.documentation;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
 import io.spring.initializr.generator.io.text.MustacheSection;
@@ -36,6 +42,8 @@ import io.spring.initializr.generator.io.text.Section;
  */
 public class HelpDocument {
 
+	private static final int DEFAULT_SECTION_SIZE = 256;
+
 	private final MustacheTemplateRenderer templateRenderer;
 
 	private final GettingStartedSection gettingStarted;
@@ -79,12 +87,85 @@ public class HelpDocument {
 	}
 
 	public void write(PrintWriter writer) throws IOException {
+		for (Section section : resolveAllSections()) {
+			section.write(writer);
+		}
+	}
+
+	/**
+	 * Write this document, rendering each top-level section concurrently using the
+	 * specified {@link Executor}. Sections are rendered in their own buffer and written
+	 * in the order they were declared so that the output is identical to
+	 * {@link #write(PrintWriter)}. Sections must therefore not depend on each other.
+	 * @param writer the writer to use
+	 * @param executor the executor to use to render sections
+	 * @throws IOException if a section failed to render, the exception thrown by the
+	 * section is propagated as is
+	 */
+	public void write(PrintWriter writer, Executor executor) throws IOException {
+		List<CompletableFuture<String>> renderings = new ArrayList<>();
+		for (Section section : resolveAllSections()) {
+			renderings
+					.add(CompletableFuture.supplyAsync(() -> render(section), executor));
+		}
+		for (CompletableFuture<String> rendering : renderings) {
+			writer.print(getRendering(rendering));
+		}
+	}
+
+	private List<Section> resolveAllSections() {
 		LinkedList<Section> allSections = new LinkedList<>(this.sections);
 		allSections.addFirst(this.gettingStarted);
 		allSections.addLast(this.nextSteps);
-		for (Section section : allSections) {
+		return allSections;
+	}
+
+	private static String render(Section section) {
+		StringWriter out = new StringWriter(
+				Math.max(section.estimatedSize(), DEFAULT_SECTION_SIZE));
+		try (PrintWriter writer = new PrintWriter(out)) {
 			section.write(writer);
 		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toString();
+	}
+
+	private static String getRendering(CompletableFuture<String> rendering)
+			throws IOException {
+		try {
+			return rendering.join();
+		}
+		catch (CompletionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException) {
+				cause = cause.getCause();
+			}
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new IOException("Failed to render section", cause);
+		}
+	}
+
+	/**
+	 * Return an estimate of the number of characters this document writes.
+	 * @return the estimated size of this document
+	 * @see Section#estimatedSize()
+	 */
+	public int estimatedSize() {
+		int size = this.gettingStarted.estimatedSize() + this.nextSteps.estimatedSize();
+		for (Section section : this.sections) {
+			size += section.estimatedSize();
+		}
+		return size;
 	}
 
 	public boolean isEmpty() {
@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
+import io.spring.initializr.generator.io.Utf8ByteBufferWriter;
 import io.spring.initializr.generator.project.contributor.ProjectContributor;
 
 /**
@@ -31,10 +33,29 @@ import io.spring.initializr.generator.project.contributor.ProjectContributor;
  */
 public class HelpDocumentProjectContributor implements ProjectContributor {
 
+	private static final int MIN_BUFFER_SIZE = 1024;
+
+	private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
 	private final HelpDocument helpDocument;
 
+	private final Executor executor;
+
 	public HelpDocumentProjectContributor(HelpDocument helpDocument) {
+		this(helpDocument, null);
+	}
+
+	/**
+	 * Create a new instance that renders the sections of the specified
+	 * {@link HelpDocument} concurrently using the specified {@link Executor}.
+	 * @param helpDocument the help document to write
+	 * @param executor the executor to use to render sections, or {@code null} to render
+	 * them sequentially
+	 * @see HelpDocument#write(PrintWriter, Executor)
+	 */
+	public HelpDocumentProjectContributor(HelpDocument helpDocument, Executor executor) {
 		this.helpDocument = helpDocument;
+		this.executor = executor;
 	}
 
 	@Override
@@ -43,8 +64,17 @@ public class HelpDocumentProjectContributor implements ProjectContributor {
 			return;
 		}
 		Path file = Files.createFile(projectRoot.resolve("HELP.md"));
-		try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
-			this.helpDocument.write(writer);
+		int bufferSize = Math.min(
+				Math.max(this.helpDocument.estimatedSize(), MIN_BUFFER_SIZE),
+				MAX_BUFFER_SIZE);
+		try (PrintWriter writer = new PrintWriter(
+				Utf8ByteBufferWriter.create(file, bufferSize))) {
+			if (this.executor != null) {
+				this.helpDocument.write(writer, this.executor);
+			}
+			else {
+				this.helpDocument.write(writer);
+			}
 		}
 	}
 
@@ -16,10 +16,13 @@
 
 package io.spring.initializr.generator.spring.documentation;
 
+import java.util.concurrent.Executor;
+
 import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
 
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
@@ -32,28 +35,46 @@ import org.springframework.context.annotation.Bean;
 @ProjectGenerationConfiguration
 public class HelpDocumentProjectGenerationConfiguration {
 
+	/**
+	 * The name of the optional {@link Executor} bean that renders the sections of the
+	 * help document concurrently.
+	 */
+	public static final String HELP_DOCUMENT_EXECUTOR_BEAN_NAME = "helpDocumentExecutor";
+
+	static final String TEMPLATES_PREFIX = "classpath:/documentation/help";
+
+	static final String TEMPLATES_CACHE_NAME = "initializr.templates";
+
 	private final CacheManager cacheManager;
 
+	private final MustacheTemplateRenderer watchedTemplateRenderer;
+
 	public HelpDocumentProjectGenerationConfiguration(
-			ObjectProvider<CacheManager> cacheManagerProvider) {
+			ObjectProvider<CacheManager> cacheManagerProvider,
+			@Qualifier(HelpTemplatesWatcher.TEMPLATE_RENDERER_BEAN_NAME) ObjectProvider<MustacheTemplateRenderer> watchedTemplateRenderer) {
 		this.cacheManager = cacheManagerProvider.getIfUnique();
+		this.watchedTemplateRenderer = watchedTemplateRenderer.getIfAvailable();
 	}
 
 	@Bean
 	public HelpDocumentProjectContributor helpDocumentProjectContributor(
-			ObjectProvider<HelpDocumentCustomizer> helpDocumentCustomizers) {
+			ObjectProvider<HelpDocumentCustomizer> helpDocumentCustomizers,
+			@Qualifier(HELP_DOCUMENT_EXECUTOR_BEAN_NAME) ObjectProvider<Executor> executor) {
 		HelpDocument helpDocument = new HelpDocument(helpMustacheTemplateRenderer());
 		helpDocumentCustomizers.orderedStream()
 				.forEach((customizer) -> customizer.customize(helpDocument));
-		return new HelpDocumentProjectContributor(helpDocument);
+		return new HelpDocumentProjectContributor(helpDocument,
+				executor.getIfAvailable());
 	}
 
 	@Bean
 	public MustacheTemplateRenderer helpMustacheTemplateRenderer() {
+		if (this.watchedTemplateRenderer != null) {
+			return this.watchedTemplateRenderer;
+		}
 		Cache templateCache = (this.cacheManager != null)
-				? this.cacheManager.getCache("initializr.templates") : null;
-		return new MustacheTemplateRenderer("classpath:/documentation/help",
-				templateCache);
+				? this.cacheManager.getCache(TEMPLATES_CACHE_NAME) : null;
+		return new MustacheTemplateRenderer(TEMPLATES_PREFIX, templateCache);
 	}
 
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.documentation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.io.template.MustacheTemplateWatcher;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.util.Assert;
+
+/**
+ * Watch the help templates for changes, so that they can be edited without restarting the
+ * application. Meant for development: declare it as a bean of the application context,
+ * typically with {@link #of(Environment, CacheManager)}, and
+ * {@link #register(GenericApplicationContext) register} its renderer in each project
+ * generation context. The watcher is stopped when the application context is closed.
+ *
+ * @author Initializr Team
+ */
+public class HelpTemplatesWatcher implements DisposableBean {
+
+	/**
+	 * The name of the property that specifies the directory of help templates to watch,
+	 * typically the source of {@code documentation/help}.
+	 */
+	public static final String WATCH_DIRECTORY_PROPERTY = "initializr.templates.watch-directory";
+
+	/**
+	 * The name of the bean that holds the watched renderer in a project generation
+	 * context.
+	 */
+	public static final String TEMPLATE_RENDERER_BEAN_NAME = "watchedHelpMustacheTemplateRenderer";
+
+	private final MustacheTemplateRenderer templateRenderer;
+
+	private final MustacheTemplateWatcher watcher;
+
+	/**
+	 * Create an instance that watches the specified directory.
+	 * @param templateCache the cache of the help templates
+	 * @param directory the directory to watch
+	 * @throws IOException if the directory could not be watched
+	 */
+	public HelpTemplatesWatcher(Cache templateCache, Path directory) throws IOException {
+		Assert.notNull(templateCache, "TemplateCache must not be null");
+		this.templateRenderer = new MustacheTemplateRenderer(
+				HelpDocumentProjectGenerationConfiguration.TEMPLATES_PREFIX,
+				templateCache);
+		this.watcher = this.templateRenderer.watch(directory);
+	}
+
+	/**
+	 * Create an instance if the specified {@link Environment} defines the
+	 * {@value #WATCH_DIRECTORY_PROPERTY} property.
+	 * @param environment the environment of the application
+	 * @param cacheManager the cache manager of the application
+	 * @return a watcher, or {@code null} if the help templates should not be watched
+	 * @throws IOException if the directory could not be watched
+	 */
+	public static HelpTemplatesWatcher of(Environment environment,
+			CacheManager cacheManager) throws IOException {
+		String directory = environment.getProperty(WATCH_DIRECTORY_PROPERTY);
+		if (directory == null) {
+			return null;
+		}
+		Assert.state(cacheManager != null,
+				"A cache manager is required to watch help templates");
+		return new HelpTemplatesWatcher(
+				cacheManager.getCache(
+						HelpDocumentProjectGenerationConfiguration.TEMPLATES_CACHE_NAME),
+				Paths.get(directory));
+	}
+
+	/**
+	 * Return the renderer of the watched help templates.
+	 * @return the template renderer
+	 */
+	public MustacheTemplateRenderer getTemplateRenderer() {
+		return this.templateRenderer;
+	}
+
+	/**
+	 * Register the renderer of the watched help templates in the specified project
+	 * generation context. The context does not own the renderer, so closing it does not
+	 * stop watching.
+	 * @param context the project generation context
+	 */
+	public void register(GenericApplicationContext context) {
+		// Primary as the help configuration exposes the same instance
+		context.registerBean(TEMPLATE_RENDERER_BEAN_NAME, MustacheTemplateRenderer.class,
+				() -> this.templateRenderer, (definition) -> definition.setPrimary(true));
+	}
+
+	@Override
+	public void destroy() throws IOException {
+		this.watcher.close();
+	}
+
+}
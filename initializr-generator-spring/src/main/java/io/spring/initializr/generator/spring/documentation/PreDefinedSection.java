@@ -59,6 +59,18 @@ public class PreDefinedSection implements Section {
 		return this.subSections.isEmpty();
 	}
 
+	@Override
+	public int estimatedSize() {
+		if (isEmpty()) {
+			return 0;
+		}
+		int size = this.title.length() + 4;
+		for (Section section : resolveSubSections(this.subSections)) {
+			size += section.estimatedSize();
+		}
+		return size;
+	}
+
 	/**
 	 * Resolve the sections to render based on the current registered sections.
 	 * @param sections the registered sections
@@ -20,6 +20,7 @@ import java.nio.file.Path;
 import java.util.List;
 
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
+import io.spring.initializr.generator.condition.PlatformVersionRanges;
 import io.spring.initializr.generator.language.java.JavaLanguage;
 import io.spring.initializr.generator.project.ProjectDescription;
 import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
@@ -71,6 +72,12 @@ class ProjectGeneratorIntegrationTests {
 				"test/demo-app/src/test/java/com/example/demo/DemoApplicationTests.java");
 	}
 
+	@Test
+	void platformVersionRangesArePrecompiled() {
+		assertThat(PlatformVersionRanges.precompile(getClass().getClassLoader()))
+				.containsKeys("2.0.0.M1", "[1.5.0.M1, 2.0.0.M1)");
+	}
+
 	private ProjectDescription initProjectDescription() {
 		ProjectDescription description = new ProjectDescription();
 		description.setApplicationName("DemoApplication");
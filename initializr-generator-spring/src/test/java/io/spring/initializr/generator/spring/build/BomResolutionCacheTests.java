@@ -0,0 +1,100 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.Map;
+
+import io.spring.initializr.generator.spring.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.BillOfMaterials;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BomResolutionCache}.
+ *
+ * @author Initializr Team
+ */
+class BomResolutionCacheTests {
+
+	@Test
+	void resolveListsAdditionalBomsFirst() {
+		BillOfMaterials bom = BillOfMaterials.create("com.example", "foo-bom", "1.0.0");
+		bom.getAdditionalBoms().add("bar-bom");
+		BillOfMaterials additionalBom = BillOfMaterials.create("com.example", "bar-bom",
+				"1.1.0");
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addBom("foo-bom", bom).addBom("bar-bom", additionalBom).build();
+		Map<String, BillOfMaterials> closure = BomResolutionCache.of(metadata)
+				.resolve("foo-bom", Version.parse("2.0.0.RELEASE"));
+		assertThat(closure.keySet()).containsExactly("bar-bom", "foo-bom");
+		assertThat(closure.get("foo-bom").getVersion()).isEqualTo("1.0.0");
+	}
+
+	@Test
+	void resolveWithMappingUsesPlatformVersion() {
+		BillOfMaterials bom = BillOfMaterials.create("com.example", "foo-bom");
+		bom.getMappings().add(BillOfMaterials.Mapping.create("[1.0.0,2.0.0)", "1.0.0"));
+		bom.getMappings().add(BillOfMaterials.Mapping.create("2.0.0", "2.0.0"));
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addBom("foo-bom", bom).build();
+		BomResolutionCache cache = BomResolutionCache.of(metadata);
+		assertThat(cache.resolve("foo-bom", Version.parse("1.5.0.RELEASE")).get("foo-bom")
+				.getVersion()).isEqualTo("1.0.0");
+		assertThat(cache.resolve("foo-bom", Version.parse("2.1.0.RELEASE")).get("foo-bom")
+				.getVersion()).isEqualTo("2.0.0");
+	}
+
+	@Test
+	void resolveWithListedPlatformVersionIsCached() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addBom("foo-bom", "com.example", "foo-bom", "1.0.0").build();
+		BomResolutionCache cache = BomResolutionCache.of(metadata);
+		assertThat(BomResolutionCache.of(metadata)).isSameAs(cache);
+		Version version = Version.parse("2.0.3.RELEASE");
+		assertThat(cache.resolve("foo-bom", version))
+				.isSameAs(cache.resolve("foo-bom", version));
+	}
+
+	@Test
+	void resolveWithOtherPlatformVersionIsNotCached() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addBom("foo-bom", "com.example", "foo-bom", "1.0.0").build();
+		BomResolutionCache cache = BomResolutionCache.of(metadata);
+		Version version = Version.parse("2.0.0.RELEASE");
+		Map<String, BillOfMaterials> closure = cache.resolve("foo-bom", version);
+		assertThat(closure.keySet()).containsExactly("foo-bom");
+		assertThat(cache.resolve("foo-bom", version)).isNotSameAs(closure)
+				.isEqualTo(closure);
+	}
+
+	@Test
+	void resolveWithUnsupportedPlatformVersion() {
+		BillOfMaterials bom = BillOfMaterials.create("com.example", "foo-bom");
+		bom.getMappings().add(BillOfMaterials.Mapping.create("[1.0.0,2.0.0)", "1.0.0"));
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addBom("foo-bom", bom).build();
+		assertThatIllegalStateException()
+				.isThrownBy(() -> BomResolutionCache.of(metadata).resolve("foo-bom",
+						Version.parse("2.0.0.RELEASE")))
+				.withMessageContaining("No suitable mapping was found");
+	}
+
+}
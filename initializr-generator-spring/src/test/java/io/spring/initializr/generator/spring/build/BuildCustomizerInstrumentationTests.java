@@ -0,0 +1,128 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.spring.initializr.generator.buildsystem.gradle.GradleBuild;
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link BuildCustomizerInstrumentation}.
+ *
+ * @author Initializr Team
+ */
+class BuildCustomizerInstrumentationTests {
+
+	private final List<Object[]> invocations = new ArrayList<>();
+
+	private final BuildCustomizerInstrumentation instrumentation = new BuildCustomizerInstrumentation(
+			Collections.singletonList(this::record));
+
+	@Test
+	void customizeRecordsInvocation() {
+		MavenBuild build = new MavenBuild();
+		this.instrumentation.customize(new TestBuildCustomizer(), build);
+		assertThat(build.getName()).isEqualTo("test");
+		assertThat(this.invocations).hasSize(1);
+		Object[] invocation = this.invocations.get(0);
+		assertThat(invocation[0]).isEqualTo(TestBuildCustomizer.class.getName());
+		assertThat(invocation[1]).isEqualTo(MavenBuild.class);
+		assertThat((long) invocation[2]).isGreaterThanOrEqualTo(0);
+		assertThat((long) invocation[3]).isGreaterThanOrEqualTo(-1);
+		assertThat((long) invocation[4]).isGreaterThanOrEqualTo(-1);
+	}
+
+	@Test
+	void customizeRecordsInvocationWithBeanName() {
+		TestBuildCustomizer customizer = new TestBuildCustomizer();
+		new BuildCustomizerInstrumentation(Collections.singletonList(this::record),
+				Collections.singletonMap("testCustomizer", customizer))
+						.customize(customizer, new MavenBuild());
+		assertThat(this.invocations).hasSize(1);
+		assertThat(this.invocations.get(0)[0]).isEqualTo("testCustomizer");
+	}
+
+	@Test
+	void customizeRecordsLambdaInvocationWithStableName() {
+		BuildCustomizer<MavenBuild> customizer = (build) -> build.setName("test");
+		this.instrumentation.customize(customizer, new MavenBuild());
+		this.instrumentation.customize(customizer, new MavenBuild());
+		assertThat(this.invocations).hasSize(2);
+		assertThat(this.invocations.get(0)[0])
+				.isEqualTo(getClass().getName() + "$$Lambda");
+		assertThat(this.invocations.get(1)[0]).isEqualTo(this.invocations.get(0)[0]);
+	}
+
+	@Test
+	void customizeRecordsFailedInvocation() {
+		BuildCustomizer<GradleBuild> customizer = (build) -> {
+			throw new IllegalStateException("test");
+		};
+		assertThatIllegalStateException().isThrownBy(
+				() -> this.instrumentation.customize(customizer, new GradleBuild()));
+		assertThat(this.invocations).hasSize(1);
+		assertThat(this.invocations.get(0)[1]).isEqualTo(GradleBuild.class);
+	}
+
+	@Test
+	void customizeWithFailingRecorderKeepsCustomizerFailure() {
+		BuildCustomizer<GradleBuild> customizer = (build) -> {
+			throw new IllegalStateException("test");
+		};
+		BuildCustomizerInstrumentation instrumentation = new BuildCustomizerInstrumentation(
+				Collections.singletonList((customizerName, buildType, wallTime, cpuTime,
+						allocatedBytes) -> {
+					throw new IllegalArgumentException("recorder");
+				}));
+		assertThatIllegalStateException()
+				.isThrownBy(
+						() -> instrumentation.customize(customizer, new GradleBuild()))
+				.withMessage("test").satisfies((ex) -> assertThat(ex.getSuppressed())
+						.extracting(Throwable::getMessage).containsExactly("recorder"));
+	}
+
+	@Test
+	void customizeWithNoRecorder() {
+		MavenBuild build = new MavenBuild();
+		new BuildCustomizerInstrumentation(Collections.emptyList())
+				.customize(new TestBuildCustomizer(), build);
+		assertThat(build.getName()).isEqualTo("test");
+	}
+
+	private void record(String customizerName, Class<?> buildType, long wallTime,
+			long cpuTime, long allocatedBytes) {
+		this.invocations.add(new Object[] { customizerName, buildType, wallTime, cpuTime,
+				allocatedBytes });
+	}
+
+	private static class TestBuildCustomizer implements BuildCustomizer<MavenBuild> {
+
+		@Override
+		public void customize(MavenBuild build) {
+			build.setName("test");
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import io.spring.initializr.generator.spring.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.generator.version.Version;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Tests for {@link CompatibilityMatrix}.
+ *
+ * @author Initializr Team
+ */
+class CompatibilityMatrixTests {
+
+	@Test
+	void rowPerPlatformVersion() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.build();
+		CompatibilityMatrix matrix = CompatibilityMatrix.of(metadata);
+		assertThat(matrix.getPlatformVersions()).containsExactly(
+				Version.parse("1.5.17.RELEASE"), Version.parse("2.0.3.RELEASE"),
+				Version.parse("2.1.1.RELEASE"), Version.parse("2.2.0.BUILD-SNAPSHOT"));
+		assertThat(CompatibilityMatrix.of(metadata)).isSameAs(matrix);
+	}
+
+	@Test
+	void getWithUnknownPlatformVersion() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.build();
+		assertThat(CompatibilityMatrix.of(metadata).get(Version.parse("2.0.0.RELEASE")))
+				.isNull();
+	}
+
+	@Test
+	void rowResolvesBuildSettings() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.setKotlinEnv("1.3.11").build();
+		CompatibilityMatrix.Row row = CompatibilityMatrix.of(metadata)
+				.get(Version.parse("2.1.1.RELEASE"));
+		assertThat(row.getKotlinVersion()).isEqualTo("1.3.11");
+		assertThat(row.getMavenParent().getArtifactId())
+				.isEqualTo("spring-boot-starter-parent");
+		assertThat(row.getMavenParent().getVersion()).isEqualTo("2.1.1.RELEASE");
+		assertThat(row.getMavenParent().isSpringBootStarterParent()).isTrue();
+		assertThat(row.getSpringBootBom().getArtifactId())
+				.isEqualTo("spring-boot-dependencies");
+		assertThat(row.getSpringBootBom().getVersion().getProperty().toStandardFormat())
+				.isEqualTo(CompatibilityMatrix.SPRING_BOOT_VERSION_PROPERTY);
+	}
+
+	@Test
+	void rowMavenParentIsACopy() {
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.setMavenParent("com.foo", "foo-parent", "1.0.0-SNAPSHOT", true).build();
+		CompatibilityMatrix.Row row = CompatibilityMatrix.of(metadata)
+				.get(Version.parse("2.1.1.RELEASE"));
+		metadata.getConfiguration().getEnv().getMaven().getParent()
+				.setArtifactId("another-parent");
+		assertThat(row.getMavenParent().getGroupId()).isEqualTo("com.foo");
+		assertThat(row.getMavenParent().getArtifactId()).isEqualTo("foo-parent");
+		assertThat(row.getMavenParent().getVersion()).isEqualTo("1.0.0-SNAPSHOT");
+		assertThat(row.getMavenParent().isIncludeSpringBootBom()).isTrue();
+		assertThat(row.getMavenParent().isSpringBootStarterParent()).isFalse();
+	}
+
+	@Test
+	void rowWithInvalidSettingsIsSkipped() {
+		InitializrMetadata metadata = spy(
+				InitializrMetadataTestBuilder.withDefaults().build());
+		willThrow(new IllegalStateException("test")).given(metadata)
+				.createSpringBootBom(eq("2.0.3.RELEASE"), anyString());
+		CompatibilityMatrix matrix = CompatibilityMatrix.of(metadata);
+		assertThat(matrix.get(Version.parse("2.0.3.RELEASE"))).isNull();
+		assertThat(matrix.getPlatformVersions()).containsExactly(
+				Version.parse("1.5.17.RELEASE"), Version.parse("2.1.1.RELEASE"),
+				Version.parse("2.2.0.BUILD-SNAPSHOT"));
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.build;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.Dependency;
+import io.spring.initializr.generator.buildsystem.DependencyScope;
+import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.generator.spring.test.InitializrMetadataTestBuilder;
+import io.spring.initializr.generator.version.VersionReference;
+import io.spring.initializr.metadata.InitializrMetadata;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link InterningMetadataBuildItemResolver}.
+ *
+ * @author Initializr Team
+ */
+class InterningMetadataBuildItemResolverTests {
+
+	@Test
+	void resolveDependencyReturnsSharedInstance() {
+		InitializrMetadata metadata = createMetadata();
+		InterningMetadataBuildItemResolver resolver = new InterningMetadataBuildItemResolver(
+				metadata);
+		Dependency dependency = resolver.resolveDependency("one");
+		assertThat(dependency.getGroupId()).isEqualTo("org.springframework.boot");
+		assertThat(dependency.getArtifactId()).isEqualTo("spring-boot-starter-one");
+		assertThat(dependency.getScope()).isEqualTo(DependencyScope.COMPILE);
+		assertThat(resolver.resolveDependency("one")).isSameAs(dependency);
+	}
+
+	@Test
+	void resolveDependencyWithAlias() {
+		io.spring.initializr.metadata.Dependency dependency = io.spring.initializr.metadata.Dependency
+				.withId("test", "com.example", "test");
+		dependency.getAliases().add("test-alias");
+		InitializrMetadata metadata = InitializrMetadataTestBuilder.withDefaults()
+				.addDependencyGroup("test", dependency).build();
+		InterningMetadataBuildItemResolver resolver = new InterningMetadataBuildItemResolver(
+				metadata);
+		assertThat(resolver.resolveDependency("test-alias"))
+				.isSameAs(resolver.resolveDependency("test"));
+	}
+
+	@Test
+	void resolveUnknownDependency() {
+		assertThat(new InterningMetadataBuildItemResolver(createMetadata())
+				.resolveDependency("unknown")).isNull();
+	}
+
+	@Test
+	void resolveBom() {
+		InterningMetadataBuildItemResolver resolver = new InterningMetadataBuildItemResolver(
+				createMetadata());
+		BillOfMaterials bom = resolver.resolveBom("acme");
+		assertThat(bom.getGroupId()).isEqualTo("com.example");
+		assertThat(bom.getArtifactId()).isEqualTo("acme-bom");
+		assertThat(bom.getVersion()).isEqualTo(VersionReference.ofValue("1.0.0"));
+		assertThat(resolver.resolveBom("acme")).isSameAs(bom);
+	}
+
+	@Test
+	void resolveRepository() {
+		InterningMetadataBuildItemResolver resolver = new InterningMetadataBuildItemResolver(
+				createMetadata());
+		MavenRepository repository = resolver.resolveRepository("acme-repo");
+		assertThat(repository.getName()).isEqualTo("Acme");
+		assertThat(repository.getUrl()).isEqualTo("https://example.com/repo");
+		assertThat(repository.isSnapshotsEnabled()).isTrue();
+		assertThat(resolver.resolveRepository("maven-central"))
+				.isSameAs(MavenRepository.MAVEN_CENTRAL);
+	}
+
+	@Test
+	void resolveWithUpdatedMetadataUsesNewBuildItems() {
+		AtomicReference<InitializrMetadata> metadata = new AtomicReference<>(
+				createMetadata());
+		InterningMetadataBuildItemResolver resolver = new InterningMetadataBuildItemResolver(
+				metadata::get);
+		Dependency dependency = resolver.resolveDependency("one");
+		assertThat(resolver.resolveDependency("another")).isNull();
+		metadata.set(InitializrMetadataTestBuilder.withDefaults()
+				.addDependencyGroup("test", "one", "another").build());
+		assertThat(resolver.resolveDependency("another")).isNotNull();
+		assertThat(resolver.resolveDependency("one")).isNotSameAs(dependency);
+	}
+
+	private InitializrMetadata createMetadata() {
+		return InitializrMetadataTestBuilder.withDefaults()
+				.addDependencyGroup("test", "one", "two")
+				.addBom("acme", "com.example", "acme-bom", "1.0.0")
+				.addRepository("acme-repo", "Acme", "https://example.com/repo", true)
+				.build();
+	}
+
+}
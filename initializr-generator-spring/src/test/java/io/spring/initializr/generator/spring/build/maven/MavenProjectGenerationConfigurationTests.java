@@ -19,13 +19,16 @@ package io.spring.initializr.generator.spring.build.maven;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
+import io.spring.initializr.generator.buildsystem.maven.MavenBuild;
 import io.spring.initializr.generator.buildsystem.maven.MavenBuildSystem;
 import io.spring.initializr.generator.language.java.JavaLanguage;
 import io.spring.initializr.generator.packaging.war.WarPackaging;
 import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.spring.build.BuildCustomizerMetricsRecorder;
 import io.spring.initializr.generator.spring.build.BuildProjectGenerationConfiguration;
 import io.spring.initializr.generator.spring.build.BuildWriter;
 import io.spring.initializr.generator.spring.test.InitializrMetadataTestBuilder;
@@ -106,4 +109,18 @@ class MavenProjectGenerationConfigurationTests {
 		}
 	}
 
+	@Test
+	void buildCustomizerMetricsAreRecordedWithBeanName() {
+		ProjectDescription description = new ProjectDescription();
+		description.setPlatformVersion(Version.parse("2.1.0.RELEASE"));
+		description.setPackaging(new WarPackaging());
+		List<String> customizerNames = new ArrayList<>();
+		this.projectTester
+				.withBean(BuildCustomizerMetricsRecorder.class,
+						() -> (customizerName, buildType, wallTime, cpuTime,
+								allocatedBytes) -> customizerNames.add(customizerName))
+				.generate(description, (context) -> context.getBean(MavenBuild.class));
+		assertThat(customizerNames).contains("mavenWarPackagingConfigurer");
+	}
+
 }
@@ -79,6 +79,22 @@ class GettingStartedSectionTests {
 		assertThat(gettingStarted.isEmpty()).isFalse();
 	}
 
+	@Test
+	void gettingStartedEmptyHasNoEstimatedSize() {
+		assertThat(newGettingStartedSection().estimatedSize()).isEqualTo(0);
+	}
+
+	@Test
+	void gettingStartedEstimatedSizeTracksItems() {
+		GettingStartedSection gettingStarted = newGettingStartedSection();
+		gettingStarted.addGuideLink("https://example.com", "Test");
+		int size = gettingStarted.estimatedSize();
+		assertThat(size).isGreaterThan("https://example.com".length());
+		gettingStarted.addGuideLink("https://example.com/another", "Another");
+		assertThat(gettingStarted.estimatedSize()).isEqualTo(
+				size + "https://example.com/another".length() + "Another".length() + 7);
+	}
+
 	private GettingStartedSection newGettingStartedSection() {
 		return new GettingStartedSection(this.renderer);
 	}
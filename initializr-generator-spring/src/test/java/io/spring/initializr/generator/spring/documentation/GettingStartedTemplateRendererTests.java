@@ -0,0 +1,184 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.documentation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.samskivert.mustache.Mustache;
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.io.template.MustacheTemplateWatcher;
+import io.spring.initializr.generator.spring.documentation.GettingStartedSection.Link;
+import io.spring.initializr.generator.spring.documentation.GettingStartedSection.RequiredDependency;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link GettingStartedTemplateRenderer}.
+ *
+ * @author Initializr Team
+ */
+class GettingStartedTemplateRendererTests {
+
+	private final MustacheTemplateRenderer mustacheTemplateRenderer = new MustacheTemplateRenderer(
+			"classpath:/documentation/help");
+
+	private final GettingStartedTemplateRenderer renderer = new GettingStartedTemplateRenderer(
+			this.mustacheTemplateRenderer);
+
+	@ParameterizedTest
+	@ValueSource(strings = { "reference-documentation", "guides", "additional-links" })
+	void renderLinksMatchesMustacheTemplate(String templateName) throws IOException {
+		assertSameRendering(templateName,
+				Arrays.asList(new Link("https://example.com", "Test"),
+						new Link("https://example.com/?a=1&b=2",
+								"<Test> \"Spring's\" `=`"),
+						new Link("https://example.com/café", "Café")));
+	}
+
+	@Test
+	void renderRequiredDependenciesMatchesMustacheTemplate() throws IOException {
+		assertSameRendering("required-dependencies",
+				Arrays.asList(new RequiredDependency("test", "Test"),
+						new RequiredDependency("a&b", "<b>bold</b>")));
+	}
+
+	@Test
+	void renderSupportingInfrastructureMatchesMustacheTemplate() throws IOException {
+		GettingStartedSection section = new GettingStartedSection(
+				this.mustacheTemplateRenderer);
+		assertSameRendering("supporting-infrastructure",
+				Arrays.asList(
+						section.new SupportingInfrastructureElement("test", "Test",
+								"https://example.com"),
+						section.new SupportingInfrastructureElement("a=b", "'quoted'",
+								"https://example.com/?a=b")));
+	}
+
+	@Test
+	void renderWithNoItemMatchesMustacheTemplate() throws IOException {
+		assertSameRendering("guides", Collections.emptyList());
+	}
+
+	@Test
+	void renderWithUnexpectedItemTypeUsesDelegate() throws IOException {
+		Map<String, Object> model = Collections.singletonMap("items",
+				Collections.singletonList(Collections.singletonMap("name", "test")));
+		GettingStartedTemplateRenderer renderer = new GettingStartedTemplateRenderer(
+				(templateName, content) -> "delegate-" + templateName);
+		assertThat(renderer.render("required-dependencies", model))
+				.isEqualTo("delegate-required-dependencies");
+	}
+
+	@Test
+	void renderUnknownTemplateUsesDelegate() throws IOException {
+		GettingStartedTemplateRenderer renderer = new GettingStartedTemplateRenderer(
+				(templateName, model) -> "delegate-" + templateName);
+		assertThat(renderer.render("test", Collections.emptyMap()))
+				.isEqualTo("delegate-test");
+	}
+
+	@Test
+	void renderWithCustomPrefixUsesCustomTemplate(@TempDir Path directory)
+			throws IOException {
+		writeTemplate(directory, "guides", "### Custom\n\n{{#items}}\n"
+				+ "- {{href}} ({{description}})\n{{/items}}\n");
+		MustacheTemplateRenderer mustacheTemplateRenderer = new MustacheTemplateRenderer(
+				directory.toUri().toString());
+		Map<String, Object> model = Collections.singletonMap("items",
+				Collections.singletonList(new Link("https://example.com", "Test")));
+		assertThat(new GettingStartedTemplateRenderer(mustacheTemplateRenderer)
+				.render("guides", model))
+						.isEqualTo("### Custom\n\n- https://example.com (Test)\n")
+						.isEqualTo(mustacheTemplateRenderer.render("guides", model));
+	}
+
+	@Test
+	void renderWithUnsupportedTemplateMatchesMustacheTemplate(@TempDir Path directory)
+			throws IOException {
+		writeTemplate(directory, "guides",
+				"### Custom\n{{#items}}\n* {{{description}}}\n{{/items}}\n"
+						+ "{{^items}}\nNone\n{{/items}}\n");
+		MustacheTemplateRenderer mustacheTemplateRenderer = new MustacheTemplateRenderer(
+				directory.toUri().toString());
+		GettingStartedTemplateRenderer renderer = new GettingStartedTemplateRenderer(
+				mustacheTemplateRenderer);
+		Map<String, Object> model = Collections.singletonMap("items",
+				Collections.singletonList(new Link("https://example.com", "<Test>")));
+		assertThat(renderer.render("guides", model)).isEqualTo("### Custom\n* <Test>\n")
+				.isEqualTo(mustacheTemplateRenderer.render("guides", model));
+	}
+
+	@Test
+	void renderWithWatchedRendererUsesDelegate(@TempDir Path directory)
+			throws IOException {
+		ConcurrentMapCache cache = new ConcurrentMapCache("test");
+		MustacheTemplateRenderer mustacheTemplateRenderer = new MustacheTemplateRenderer(
+				"classpath:/documentation/help", cache);
+		try (MustacheTemplateWatcher watcher = mustacheTemplateRenderer
+				.watch(directory)) {
+			cache.put("classpath:/documentation/help/guides",
+					Mustache.compiler().compile("reloaded"));
+			assertThat(new GettingStartedTemplateRenderer(mustacheTemplateRenderer)
+					.render("guides",
+							Collections.singletonMap("items", Collections.emptyList())))
+									.isEqualTo("reloaded");
+		}
+	}
+
+	@Test
+	void renderWithCustomRendererUsesDelegate() throws IOException {
+		MustacheTemplateRenderer mustacheTemplateRenderer = new MustacheTemplateRenderer(
+				"classpath:/documentation/help") {
+
+			@Override
+			public String render(String templateName, Map<String, ?> model) {
+				return "custom-" + templateName;
+			}
+
+		};
+		assertThat(new GettingStartedTemplateRenderer(mustacheTemplateRenderer).render(
+				"guides", Collections.singletonMap("items", Collections.emptyList())))
+						.isEqualTo("custom-guides");
+	}
+
+	private void assertSameRendering(String templateName, List<?> items)
+			throws IOException {
+		Map<String, Object> model = Collections.singletonMap("items", items);
+		assertThat(this.renderer.render(templateName, model))
+				.isEqualTo(this.mustacheTemplateRenderer.render(templateName, model));
+	}
+
+	private void writeTemplate(Path directory, String name, String content)
+			throws IOException {
+		Files.write(directory.resolve(name + ".mustache"),
+				content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
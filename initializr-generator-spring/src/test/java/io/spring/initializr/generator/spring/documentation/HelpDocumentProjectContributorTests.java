@@ -20,6 +20,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +30,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link HelpDocumentProjectContributor}.
@@ -114,9 +119,71 @@ class HelpDocumentProjectContributorTests {
 				"    * Test");
 	}
 
+	@Test
+	void helpDocumentWithConcurrentRenderingKeepsSectionsOrder() throws IOException {
+		HelpDocument document = new HelpDocument(this.templateRenderer);
+		document.gettingStarted().addGuideLink("https://test.example.com", "test");
+		for (int i = 0; i < 10; i++) {
+			String title = "# Section " + i;
+			document.addSection((writer) -> writer.println(title));
+		}
+		document.nextSteps().addSection((writer) -> writer.println("Test"));
+		List<String> expected = generateDocument(document);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			assertThat(generateDocument(document, executor))
+					.containsExactlyElementsOf(expected);
+		}
+		finally {
+			executor.shutdown();
+		}
+		assertThat(expected).contains("# Section 0", "# Section 9", "# Next Steps");
+		assertThat(expected.indexOf("# Section 0"))
+				.isLessThan(expected.indexOf("# Section 9"));
+	}
+
+	@Test
+	void helpDocumentWithConcurrentRenderingPropagatesSectionFailure() {
+		HelpDocument document = new HelpDocument(this.templateRenderer);
+		document.addSection((writer) -> writer.println("# Test"));
+		document.addSection((writer) -> {
+			throw new IOException("test");
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			assertThatIOException().isThrownBy(() -> generateDocument(document, executor))
+					.withMessage("test");
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	void helpDocumentWithConcurrentRenderingPropagatesSectionRuntimeFailure() {
+		HelpDocument document = new HelpDocument(this.templateRenderer);
+		document.addSection((writer) -> {
+			throw new IllegalStateException("test");
+		});
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			assertThatIllegalStateException()
+					.isThrownBy(() -> generateDocument(document, executor))
+					.withMessage("test");
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
 	private List<String> generateDocument(HelpDocument document) throws IOException {
+		return generateDocument(document, null);
+	}
+
+	private List<String> generateDocument(HelpDocument document, Executor executor)
+			throws IOException {
 		Path projectDir = Files.createTempDirectory(this.directory, "project-");
-		new HelpDocumentProjectContributor(document).contribute(projectDir);
+		new HelpDocumentProjectContributor(document, executor).contribute(projectDir);
 		Path helpDocument = projectDir.resolve("HELP.md");
 		assertThat(helpDocument).isRegularFile();
 		return Files.readAllLines(helpDocument);
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.spring.documentation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.spring.initializr.generator.io.template.MustacheTemplateRenderer;
+import io.spring.initializr.generator.project.ProjectDescription;
+import io.spring.initializr.generator.test.project.ProjectAssetTester;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HelpDocumentProjectGenerationConfiguration}.
+ *
+ * @author Initializr Team
+ */
+class HelpDocumentProjectGenerationConfigurationTests {
+
+	private final ProjectAssetTester projectTester = new ProjectAssetTester()
+			.withConfiguration(HelpDocumentProjectGenerationConfiguration.class)
+			.withBean(HelpDocumentCustomizer.class, () -> (document) -> document
+					.addSection((writer) -> writer.println("# Test")));
+
+	@Test
+	void helpDocumentUsesHelpDocumentExecutor(@TempDir Path directory) {
+		CountingExecutor executor = new CountingExecutor();
+		Path helpDocument = generateHelpDocument(directory, this.projectTester
+				.withContextInitializer((context) -> context.registerBean(
+						HelpDocumentProjectGenerationConfiguration.HELP_DOCUMENT_EXECUTOR_BEAN_NAME,
+						Executor.class, () -> executor)));
+		assertThat(helpDocument).isRegularFile();
+		assertThat(executor.invocations).hasPositiveValue();
+	}
+
+	@Test
+	void helpDocumentIgnoresOtherExecutor(@TempDir Path directory) {
+		CountingExecutor executor = new CountingExecutor();
+		Path helpDocument = generateHelpDocument(directory,
+				this.projectTester.withContextInitializer((context) -> context
+						.registerBean("taskExecutor", Executor.class, () -> executor)));
+		assertThat(helpDocument).isRegularFile();
+		assertThat(executor.invocations).hasValue(0);
+	}
+
+	@Test
+	void helpTemplatesAreNotWatchedByDefault() {
+		MustacheTemplateRenderer renderer = this.projectTester
+				.withBean(CacheManager.class, ConcurrentMapCacheManager::new)
+				.generate(new ProjectDescription(),
+						(context) -> context.getBean(MustacheTemplateRenderer.class));
+		assertThat(renderer.isWatched()).isFalse();
+	}
+
+	@Test
+	void helpTemplatesUseWatchedRendererWhenAvailable(@TempDir Path directory)
+			throws IOException {
+		HelpTemplatesWatcher watcher = new HelpTemplatesWatcher(
+				new ConcurrentMapCache("test"), directory);
+		try {
+			ProjectAssetTester tester = this.projectTester
+					.withContextInitializer(watcher::register);
+			MustacheTemplateRenderer renderer = tester.generate(new ProjectDescription(),
+					(context) -> context.getBean(MustacheTemplateRenderer.class));
+			MustacheTemplateRenderer anotherRenderer = tester.generate(
+					new ProjectDescription(),
+					(context) -> context.getBean(MustacheTemplateRenderer.class));
+			assertThat(renderer).isSameAs(watcher.getTemplateRenderer());
+			assertThat(renderer.isWatched()).isTrue();
+			assertThat(anotherRenderer).isSameAs(renderer);
+		}
+		finally {
+			watcher.destroy();
+		}
+	}
+
+	private Path generateHelpDocument(Path directory, ProjectAssetTester tester) {
+		return tester.generate(new ProjectDescription(), (context) -> {
+			context.getBean(HelpDocumentProjectContributor.class).contribute(directory);
+			return directory.resolve("HELP.md");
+		});
+	}
+
+	private static class CountingExecutor implements Executor {
+
+		private final AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public void execute(Runnable command) {
+			this.invocations.incrementAndGet();
+			command.run();
+		}
+
+	}
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.spring.documentation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link HelpTemplatesWatcher}.
+ *
+ * @author Initializr Team
+ */
+class HelpTemplatesWatcherTests {
+
+	@Test
+	void ofWithoutWatchDirectory() throws IOException {
+		assertThat(HelpTemplatesWatcher.of(new StandardEnvironment(),
+				new ConcurrentMapCacheManager())).isNull();
+	}
+
+	@Test
+	void ofWithWatchDirectory(@TempDir Path directory) throws IOException {
+		StandardEnvironment environment = watchDirectoryEnvironment(directory);
+		HelpTemplatesWatcher watcher = HelpTemplatesWatcher.of(environment,
+				new ConcurrentMapCacheManager());
+		try {
+			assertThat(watcher).isNotNull();
+			assertThat(watcher.getTemplateRenderer().isWatched()).isTrue();
+		}
+		finally {
+			watcher.destroy();
+		}
+	}
+
+	@Test
+	void ofWithWatchDirectoryAndNoCacheManager(@TempDir Path directory) {
+		StandardEnvironment environment = watchDirectoryEnvironment(directory);
+		assertThatIllegalStateException()
+				.isThrownBy(() -> HelpTemplatesWatcher.of(environment, null))
+				.withMessageContaining("cache manager");
+	}
+
+	private StandardEnvironment watchDirectoryEnvironment(Path directory) {
+		StandardEnvironment environment = new StandardEnvironment();
+		environment.getPropertySources()
+				.addFirst(new MapPropertySource("test",
+						Collections.singletonMap(
+								HelpTemplatesWatcher.WATCH_DIRECTORY_PROPERTY,
+								directory.toString())));
+		return environment;
+	}
+
+}
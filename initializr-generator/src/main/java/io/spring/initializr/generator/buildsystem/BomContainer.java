@@ -16,7 +16,6 @@
 
 package io.spring.initializr.generator.buildsystem;
 
-import java.util.LinkedHashMap;
 import java.util.function.Function;
 
 import io.spring.initializr.generator.version.VersionReference;
@@ -29,7 +28,7 @@ import io.spring.initializr.generator.version.VersionReference;
 public class BomContainer extends BuildItemContainer<String, BillOfMaterials> {
 
 	BomContainer(Function<String, BillOfMaterials> itemResolver) {
-		super(new LinkedHashMap<>(), itemResolver);
+		super(new CompactItemMap<>(), itemResolver);
 	}
 
 	/**
@@ -46,6 +46,8 @@ public abstract class Build {
 
 	private final MavenRepositoryContainer pluginRepositories;
 
+	private boolean frozen;
+
 	protected Build(BuildItemResolver buildItemResolver) {
 		BuildItemResolver resolver = determineBuildItemResolver(buildItemResolver);
 		this.dependencies = new DependencyContainer(resolver::resolveDependency);
@@ -74,6 +76,7 @@ public abstract class Build {
 	}
 
 	public void setGroup(String group) {
+		assertNotFrozen();
 		this.group = group;
 	}
 
@@ -86,6 +89,7 @@ public abstract class Build {
 	}
 
 	public void setArtifact(String artifact) {
+		assertNotFrozen();
 		this.artifact = artifact;
 	}
 
@@ -94,10 +98,12 @@ public abstract class Build {
 	}
 
 	public void setVersion(String version) {
+		assertNotFrozen();
 		this.version = version;
 	}
 
 	public void addVersionProperty(VersionProperty versionProperty, String version) {
+		assertNotFrozen();
 		this.versionProperties.put(versionProperty, version);
 	}
 
@@ -129,4 +135,43 @@ public abstract class Build {
 		return this.pluginRepositories;
 	}
 
+	/**
+	 * Freeze this build once it has been fully customized. Any further attempt to modify
+	 * the build, or its {@link BuildItemContainer containers}, fails with an
+	 * {@link IllegalStateException}.
+	 * <p>
+	 * Freezing is a mutation guard only: items that were added to the build, such as
+	 * plugins and their configuration, remain mutable and the build is not safe to share
+	 * across threads.
+	 */
+	public void freeze() {
+		if (this.frozen) {
+			return;
+		}
+		this.dependencies.freeze();
+		this.boms.freeze();
+		this.repositories.freeze();
+		this.pluginRepositories.freeze();
+		this.frozen = true;
+	}
+
+	/**
+	 * Specify if this build is frozen.
+	 * @return {@code true} if this build can no longer be modified
+	 * @see #freeze()
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	/**
+	 * Assert that this build can still be modified.
+	 * @throws IllegalStateException if this build is {@link #freeze() frozen}
+	 */
+	protected final void assertNotFrozen() {
+		if (this.frozen) {
+			throw new IllegalStateException("Build is frozen");
+		}
+	}
+
 }
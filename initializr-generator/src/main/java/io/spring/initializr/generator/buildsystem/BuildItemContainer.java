@@ -16,7 +16,11 @@
 
 package io.spring.initializr.generator.buildsystem;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -33,6 +37,8 @@ public class BuildItemContainer<I, V> {
 
 	private final Function<I, V> itemResolver;
 
+	private boolean frozen;
+
 	protected BuildItemContainer(Map<I, V> items, Function<I, V> itemResolver) {
 		this.items = items;
 		this.itemResolver = itemResolver;
@@ -46,6 +52,14 @@ public class BuildItemContainer<I, V> {
 		return this.items.isEmpty();
 	}
 
+	/**
+	 * Return the number of registered items.
+	 * @return the number of items
+	 */
+	public int size() {
+		return this.items.size();
+	}
+
 	/**
 	 * Specify if this container has an item with the specified id.
 	 * @param id the id of an item
@@ -71,6 +85,76 @@ public class BuildItemContainer<I, V> {
 		return this.items.values().stream();
 	}
 
+	/**
+	 * Return the id of the item at the specified position, in registration order. Along
+	 * with {@link #size()}, allows iterating over the items without allocating when the
+	 * container is backed by the default map.
+	 * @param index the position of the item
+	 * @return the id of the item at that position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public I idAt(int index) {
+		if (this.items instanceof CompactItemMap) {
+			return ((CompactItemMap<I, V>) this.items).keyAt(index);
+		}
+		return elementAt(this.items.keySet(), index);
+	}
+
+	/**
+	 * Return the item at the specified position, in registration order. Along with
+	 * {@link #size()}, allows iterating over the items without allocating when the
+	 * container is backed by the default map.
+	 * @param index the position of the item
+	 * @return the item at that position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public V itemAt(int index) {
+		if (this.items instanceof CompactItemMap) {
+			return ((CompactItemMap<I, V>) this.items).valueAt(index);
+		}
+		return elementAt(this.items.values(), index);
+	}
+
+	private static <T> T elementAt(Collection<T> elements, int index) {
+		if (index < 0 || index >= elements.size()) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + elements.size());
+		}
+		Iterator<T> iterator = elements.iterator();
+		for (int i = 0; i < index; i++) {
+			iterator.next();
+		}
+		return iterator.next();
+	}
+
+	/**
+	 * Perform the specified action on each registered item, in registration order.
+	 * Contrary to {@link #ids()} and {@link #items()}, no stream is created, although a
+	 * capturing lambda is still allocated by the caller. Use {@link #idAt(int)} and
+	 * {@link #itemAt(int)} where that matters.
+	 * @param action the action to perform with the id and the item
+	 */
+	public void forEach(BiConsumer<? super I, ? super V> action) {
+		this.items.forEach(action);
+	}
+
+	/**
+	 * Specify if any registered item matches the specified predicate.
+	 * @param predicate the predicate to apply with the id and the item
+	 * @return {@code true} if at least one item matches
+	 */
+	public boolean anyMatch(BiPredicate<? super I, ? super V> predicate) {
+		if (this.items instanceof CompactItemMap) {
+			return ((CompactItemMap<I, V>) this.items).anyMatch(predicate);
+		}
+		for (Map.Entry<I, V> entry : this.items.entrySet()) {
+			if (predicate.test(entry.getKey(), entry.getValue())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * Return the item with the specified {@code id} or {@code null} if no such item
 	 * exists.
@@ -99,6 +183,7 @@ public class BuildItemContainer<I, V> {
 	 * @param item the item to register
 	 */
 	public void add(I id, V item) {
+		assertNotFrozen();
 		this.items.put(id, item);
 	}
 
@@ -108,7 +193,31 @@ public class BuildItemContainer<I, V> {
 	 * @return {@code true} if such an item was registered, {@code false} otherwise
 	 */
 	public boolean remove(I id) {
+		assertNotFrozen();
 		return this.items.remove(id) != null;
 	}
 
+	/**
+	 * Freeze this container so that no item can be added or removed anymore. This is a
+	 * mutation guard only: the items themselves are not made immutable.
+	 */
+	public void freeze() {
+		this.frozen = true;
+	}
+
+	/**
+	 * Specify if this container is frozen.
+	 * @return {@code true} if items can no longer be added or removed
+	 * @see #freeze()
+	 */
+	public boolean isFrozen() {
+		return this.frozen;
+	}
+
+	private void assertNotFrozen() {
+		if (this.frozen) {
+			throw new IllegalStateException("Container is frozen");
+		}
+	}
+
 }
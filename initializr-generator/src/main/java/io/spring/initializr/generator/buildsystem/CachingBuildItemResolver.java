@@ -0,0 +1,152 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A {@link BuildItemResolver} that caches the resolutions of another
+ * {@link BuildItemResolver}, including ids that could not be resolved. Each kind of build
+ * item is cached in a concurrent map holding at most {@code maxSize} entries.
+ * <p>
+ * The cache can be cleared explicitly using {@link #invalidate()}. If a revision supplier
+ * is specified, the cache is also cleared as soon as the supplied revision changes, which
+ * is convenient when the delegate relies on data that can be refreshed.
+ *
+ * @author Initializr Team
+ */
+public class CachingBuildItemResolver implements BuildItemResolver {
+
+	private static final int DEFAULT_MAX_SIZE = 1024;
+
+	private final BuildItemResolver delegate;
+
+	private final Supplier<?> revision;
+
+	private final int maxSize;
+
+	private final AtomicReference<Caches> caches;
+
+	/**
+	 * Create a new instance for the specified {@link BuildItemResolver}.
+	 * @param delegate the resolver to delegate to
+	 */
+	public CachingBuildItemResolver(BuildItemResolver delegate) {
+		this(delegate, () -> null, DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Create a new instance for the specified {@link BuildItemResolver}, invalidating the
+	 * cache when the specified revision changes.
+	 * @param delegate the resolver to delegate to
+	 * @param revision a supplier of the current revision of the data the delegate uses
+	 * @param maxSize the maximum number of entries per kind of build item
+	 */
+	public CachingBuildItemResolver(BuildItemResolver delegate, Supplier<?> revision,
+			int maxSize) {
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(revision, "Revision must not be null");
+		Assert.isTrue(maxSize > 0, "Max size must be positive");
+		this.delegate = delegate;
+		this.revision = revision;
+		this.maxSize = maxSize;
+		this.caches = new AtomicReference<>(new Caches(revision.get()));
+	}
+
+	@Override
+	public Dependency resolveDependency(String id) {
+		return resolve(getCaches().dependencies, id, this.delegate::resolveDependency);
+	}
+
+	@Override
+	public BillOfMaterials resolveBom(String id) {
+		return resolve(getCaches().boms, id, this.delegate::resolveBom);
+	}
+
+	@Override
+	public MavenRepository resolveRepository(String id) {
+		return resolve(getCaches().repositories, id, this.delegate::resolveRepository);
+	}
+
+	/**
+	 * Clear all cached resolutions.
+	 */
+	public void invalidate() {
+		this.caches.set(new Caches(this.revision.get()));
+	}
+
+	private Caches getCaches() {
+		Object revision = this.revision.get();
+		Caches current = this.caches.get();
+		if (ObjectUtils.nullSafeEquals(current.revision, revision)) {
+			return current;
+		}
+		Caches candidate = new Caches(revision);
+		this.caches.compareAndSet(current, candidate);
+		return candidate;
+	}
+
+	private <T> T resolve(Map<String, Optional<T>> cache, String id,
+			Function<String, T> resolver) {
+		Optional<T> item = cache.get(id);
+		if (item == null) {
+			item = Optional.ofNullable(resolver.apply(id));
+			if (cache.size() >= this.maxSize) {
+				evictOne(cache);
+			}
+			cache.put(id, item);
+		}
+		return item.orElse(null);
+	}
+
+	private void evictOne(Map<String, ?> cache) {
+		Iterator<String> ids = cache.keySet().iterator();
+		if (ids.hasNext()) {
+			ids.next();
+			ids.remove();
+		}
+	}
+
+	/**
+	 * The caches for a given revision.
+	 */
+	private static final class Caches {
+
+		private final Object revision;
+
+		private final Map<String, Optional<Dependency>> dependencies = new ConcurrentHashMap<>();
+
+		private final Map<String, Optional<BillOfMaterials>> boms = new ConcurrentHashMap<>();
+
+		private final Map<String, Optional<MavenRepository>> repositories = new ConcurrentHashMap<>();
+
+		Caches(Object revision) {
+			this.revision = revision;
+		}
+
+	}
+
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * A {@link Map} that keeps its keys and values in parallel arrays, in insertion order.
+ * Lookups are linear, with a precomputed hash to avoid most {@code equals} calls, which
+ * is faster than hashing for the small number of items a build typically has. Entries can
+ * be accessed by position with {@link #keyAt(int)} and {@link #valueAt(int)}, which
+ * allows iterating without allocating an iterator or a capturing lambda.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author Initializr Team
+ */
+final class CompactItemMap<K, V> extends AbstractMap<K, V> {
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+	private Object[] keys = new Object[DEFAULT_CAPACITY];
+
+	private Object[] values = new Object[DEFAULT_CAPACITY];
+
+	private int[] hashes = new int[DEFAULT_CAPACITY];
+
+	private int size;
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override
+	public V get(Object key) {
+		int index = indexOf(key);
+		return (index != -1) ? valueAt(index) : null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		int index = indexOf(key);
+		if (index != -1) {
+			V previous = valueAt(index);
+			this.values[index] = value;
+			return previous;
+		}
+		ensureCapacity();
+		this.keys[this.size] = key;
+		this.values[this.size] = value;
+		this.hashes[this.size] = Objects.hashCode(key);
+		this.size++;
+		return null;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int index = indexOf(key);
+		if (index == -1) {
+			return null;
+		}
+		V previous = valueAt(index);
+		removeAt(index);
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.keys, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		this.size = 0;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		for (int i = 0; i < this.size; i++) {
+			action.accept(keyAt(i), valueAt(i));
+		}
+	}
+
+	/**
+	 * Specify if any entry of this map matches the specified predicate.
+	 * @param predicate the predicate to apply
+	 * @return {@code true} if at least one entry matches
+	 */
+	boolean anyMatch(BiPredicate<? super K, ? super V> predicate) {
+		for (int i = 0; i < this.size; i++) {
+			if (predicate.test(keyAt(i), valueAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Set<Entry<K, V>> entrySet() {
+		return new EntrySet();
+	}
+
+	private int indexOf(Object key) {
+		int hash = Objects.hashCode(key);
+		for (int i = 0; i < this.size; i++) {
+			if (this.hashes[i] == hash && Objects.equals(this.keys[i], key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Return the key at the specified position, in insertion order.
+	 * @param index the position of the entry
+	 * @return the key at that position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@SuppressWarnings("unchecked")
+	K keyAt(int index) {
+		checkIndex(index);
+		return (K) this.keys[index];
+	}
+
+	/**
+	 * Return the value at the specified position, in insertion order.
+	 * @param index the position of the entry
+	 * @return the value at that position
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	@SuppressWarnings("unchecked")
+	V valueAt(int index) {
+		checkIndex(index);
+		return (V) this.values[index];
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException(
+					"Index: " + index + ", Size: " + this.size);
+		}
+	}
+
+	private void ensureCapacity() {
+		if (this.size == this.keys.length) {
+			int capacity = this.keys.length * 2;
+			this.keys = Arrays.copyOf(this.keys, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+			this.hashes = Arrays.copyOf(this.hashes, capacity);
+		}
+	}
+
+	private void removeAt(int index) {
+		int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.keys, index + 1, this.keys, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+			System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+		}
+		this.size--;
+		this.keys[this.size] = null;
+		this.values[this.size] = null;
+	}
+
+	private final class EntrySet extends AbstractSet<Entry<K, V>> {
+
+		@Override
+		public int size() {
+			return CompactItemMap.this.size;
+		}
+
+		@Override
+		public Iterator<Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+	}
+
+	private final class EntryIterator implements Iterator<Entry<K, V>> {
+
+		private int next;
+
+		private int last = -1;
+
+		@Override
+		public boolean hasNext() {
+			return this.next < CompactItemMap.this.size;
+		}
+
+		@Override
+		public Entry<K, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			this.last = this.next++;
+			return new SimpleImmutableEntry<>(keyAt(this.last), valueAt(this.last));
+		}
+
+		@Override
+		public void remove() {
+			if (this.last == -1) {
+				throw new IllegalStateException();
+			}
+			removeAt(this.last);
+			this.next = this.last;
+			this.last = -1;
+		}
+
+	}
+
+}
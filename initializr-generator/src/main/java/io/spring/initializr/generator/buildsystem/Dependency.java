@@ -35,6 +35,8 @@ public class Dependency {
 
 	private final String type;
 
+	private final boolean springBoot;
+
 	public Dependency(String groupId, String artifactId) {
 		this(groupId, artifactId, DependencyScope.COMPILE);
 	}
@@ -55,6 +57,8 @@ public class Dependency {
 		this.version = version;
 		this.scope = scope;
 		this.type = type;
+		this.springBoot = (groupId != null
+				&& groupId.startsWith(DependencyComparator.SPRING_BOOT_GROUP_ID));
 	}
 
 	/**
@@ -99,4 +103,14 @@ public class Dependency {
 		return this.type;
 	}
 
+	/**
+	 * Specify if this dependency belongs to Spring Boot, which is computed once so that
+	 * sorting dependencies does not inspect the group ID again.
+	 * @return {@code true} if the group ID of this dependency is a Spring Boot one
+	 * @see DependencyComparator
+	 */
+	boolean isSpringBootDependency() {
+		return this.springBoot;
+	}
+
 }
@@ -31,26 +31,28 @@ public class DependencyComparator implements Comparator<Dependency> {
 	 */
 	public static final DependencyComparator INSTANCE = new DependencyComparator();
 
+	static final String SPRING_BOOT_GROUP_ID = "org.springframework.boot";
+
 	@Override
 	public int compare(Dependency o1, Dependency o2) {
-		if (isSpringBootDependency(o1) && isSpringBootDependency(o2)) {
-			return o1.getArtifactId().compareTo(o2.getArtifactId());
-		}
-		if (isSpringBootDependency(o1)) {
-			return -1;
+		if (o1 == o2) {
+			return 0;
 		}
-		if (isSpringBootDependency(o2)) {
-			return 1;
+		boolean springBoot = o1.isSpringBootDependency();
+		if (springBoot != o2.isSpringBootDependency()) {
+			return (springBoot) ? -1 : 1;
 		}
-		int group = o1.getGroupId().compareTo(o2.getGroupId());
-		if (group != 0) {
-			return group;
+		if (!springBoot) {
+			int group = compare(o1.getGroupId(), o2.getGroupId());
+			if (group != 0) {
+				return group;
+			}
 		}
-		return o1.getArtifactId().compareTo(o2.getArtifactId());
+		return compare(o1.getArtifactId(), o2.getArtifactId());
 	}
 
-	private boolean isSpringBootDependency(Dependency dependency) {
-		return dependency.getGroupId().startsWith("org.springframework.boot");
+	private int compare(String first, String second) {
+		return (first == second) ? 0 : first.compareTo(second);
 	}
 
 }
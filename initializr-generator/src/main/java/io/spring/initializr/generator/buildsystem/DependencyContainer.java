@@ -16,7 +16,13 @@
 
 package io.spring.initializr.generator.buildsystem;
 
-import java.util.LinkedHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 
 import io.spring.initializr.generator.version.VersionReference;
@@ -28,8 +34,76 @@ import io.spring.initializr.generator.version.VersionReference;
  */
 public class DependencyContainer extends BuildItemContainer<String, Dependency> {
 
+	private Map<DependencyScope, List<Dependency>> dependenciesByScope;
+
 	DependencyContainer(Function<String, Dependency> itemResolver) {
-		super(new LinkedHashMap<>(), itemResolver);
+		super(new CompactItemMap<>(), itemResolver);
+	}
+
+	/**
+	 * Return the registered dependencies partitioned by {@link DependencyScope scope}.
+	 * Each scope is mapped to its dependencies, sorted using
+	 * {@link DependencyComparator}, or to an empty list if it has none. A dependency that
+	 * is registered with several ids is only listed once. The view is computed in a
+	 * single pass and reused until this container changes.
+	 * @return an immutable view of the dependencies by scope
+	 */
+	public Map<DependencyScope, List<Dependency>> byScope() {
+		if (this.dependenciesByScope == null) {
+			this.dependenciesByScope = partitionByScope();
+		}
+		return this.dependenciesByScope;
+	}
+
+	private Map<DependencyScope, List<Dependency>> partitionByScope() {
+		Map<DependencyScope, List<Dependency>> partitions = new EnumMap<>(
+				DependencyScope.class);
+		Set<Dependency> distinctDependencies = new LinkedHashSet<>();
+		forEach((id, dependency) -> {
+			if (dependency.getScope() != null && distinctDependencies.add(dependency)) {
+				partitions.computeIfAbsent(dependency.getScope(),
+						(scope) -> new ArrayList<>()).add(dependency);
+			}
+		});
+		Map<DependencyScope, List<Dependency>> result = new EnumMap<>(
+				DependencyScope.class);
+		for (DependencyScope scope : DependencyScope.values()) {
+			List<Dependency> dependencies = partitions.get(scope);
+			if (dependencies == null) {
+				result.put(scope, Collections.emptyList());
+			}
+			else {
+				dependencies.sort(DependencyComparator.INSTANCE);
+				result.put(scope, Collections.unmodifiableList(dependencies));
+			}
+		}
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Freeze this container and compute its {@link #byScope() view by scope} upfront. As
+	 * for {@link BuildItemContainer#freeze()}, this is a mutation guard only and does not
+	 * make this container safe to share across threads.
+	 */
+	@Override
+	public void freeze() {
+		this.dependenciesByScope = partitionByScope();
+		super.freeze();
+	}
+
+	@Override
+	public void add(String id, Dependency item) {
+		super.add(id, item);
+		this.dependenciesByScope = null;
+	}
+
+	@Override
+	public boolean remove(String id) {
+		boolean removed = super.remove(id);
+		if (removed) {
+			this.dependenciesByScope = null;
+		}
+		return removed;
 	}
 
 	/**
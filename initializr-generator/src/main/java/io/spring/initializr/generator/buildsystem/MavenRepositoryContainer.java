@@ -16,7 +16,6 @@
 
 package io.spring.initializr.generator.buildsystem;
 
-import java.util.LinkedHashMap;
 import java.util.function.Function;
 
 /**
@@ -28,7 +27,7 @@ public class MavenRepositoryContainer
 		extends BuildItemContainer<String, MavenRepository> {
 
 	MavenRepositoryContainer(Function<String, MavenRepository> itemResolver) {
-		super(new LinkedHashMap<>(), itemResolver);
+		super(new CompactItemMap<>(), itemResolver);
 	}
 
 	/**
@@ -60,6 +60,7 @@ public class GradleBuild extends Build {
 	}
 
 	public void setSourceCompatibility(String sourceCompatibility) {
+		assertNotFrozen();
 		this.sourceCompatibility = sourceCompatibility;
 	}
 
@@ -68,6 +69,7 @@ public class GradleBuild extends Build {
 	}
 
 	public GradleBuild ext(String key, String value) {
+		assertNotFrozen();
 		this.ext.put(key, value);
 		return this;
 	}
@@ -81,12 +83,14 @@ public class GradleBuild extends Build {
 	}
 
 	public GradlePlugin addPlugin(String id, String version) {
+		assertNotFrozen();
 		GradlePlugin plugin = new GradlePlugin(id, version);
 		this.plugins.add(plugin);
 		return plugin;
 	}
 
 	public void applyPlugin(String id) {
+		assertNotFrozen();
 		this.appliedPlugins.add(id);
 	}
 
@@ -99,6 +103,7 @@ public class GradleBuild extends Build {
 	}
 
 	public void buildscript(Consumer<Buildscript> customizer) {
+		assertNotFrozen();
 		customizer.accept(this.buildscript);
 	}
 
@@ -108,6 +113,7 @@ public class GradleBuild extends Build {
 
 	public void customizeConfiguration(String configurationName,
 			Consumer<ConfigurationCustomization> customizer) {
+		assertNotFrozen();
 		customizer.accept(this.configurationCustomizations.computeIfAbsent(
 				configurationName, (name) -> new ConfigurationCustomization()));
 	}
@@ -122,6 +128,7 @@ public class GradleBuild extends Build {
 	}
 
 	public void customizeTask(String taskName, Consumer<TaskCustomization> customizer) {
+		assertNotFrozen();
 		customizer.accept(this.taskCustomizations.computeIfAbsent(taskName,
 				(name) -> new TaskCustomization()));
 	}
@@ -17,28 +17,27 @@
 package io.spring.initializr.generator.buildsystem.gradle;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.BuildItemContainer;
 import io.spring.initializr.generator.buildsystem.Dependency;
-import io.spring.initializr.generator.buildsystem.DependencyComparator;
-import io.spring.initializr.generator.buildsystem.DependencyContainer;
 import io.spring.initializr.generator.buildsystem.DependencyScope;
 import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.generator.buildsystem.MavenRepositoryContainer;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild.ConfigurationCustomization;
 import io.spring.initializr.generator.buildsystem.gradle.GradleBuild.TaskCustomization;
 import io.spring.initializr.generator.io.IndentingWriter;
+import io.spring.initializr.generator.io.SegmentCache;
 import io.spring.initializr.generator.version.VersionProperty;
 import io.spring.initializr.generator.version.VersionReference;
 
@@ -50,6 +49,14 @@ import io.spring.initializr.generator.version.VersionReference;
  */
 public class GradleBuildWriter {
 
+	private static final SegmentCache segmentCache = new SegmentCache(256);
+
+	private static final List<DependencyScope> DEPENDENCY_SCOPES_ORDER = Arrays.asList(
+			DependencyScope.COMPILE, DependencyScope.COMPILE_ONLY,
+			DependencyScope.RUNTIME, DependencyScope.ANNOTATION_PROCESSOR,
+			DependencyScope.PROVIDED_RUNTIME, DependencyScope.TEST_COMPILE,
+			DependencyScope.TEST_RUNTIME);
+
 	public void writeTo(IndentingWriter writer, GradleBuild build) throws IOException {
 		boolean buildScriptWritten = writeBuildscript(writer, build);
 		writePlugins(writer, build, buildScriptWritten);
@@ -70,13 +77,25 @@ public class GradleBuildWriter {
 		if (dependencies.isEmpty() && ext.isEmpty()) {
 			return false;
 		}
-		writer.println("buildscript {");
-		writer.indented(() -> {
-			writeBuildscriptExt(writer, build);
-			writeBuildscriptRepositories(writer, build);
-			writeBuildscriptDependencies(writer, build);
+		List<Object> key = new ArrayList<>();
+		key.add("buildscript");
+		key.add(ext.size());
+		ext.forEach((name, value) -> key.add(name + " = " + value));
+		MavenRepositoryContainer repositories = build.repositories();
+		key.add(repositories.size());
+		for (int i = 0; i < repositories.size(); i++) {
+			key.add(repositoryAsString(repositories.itemAt(i)));
+		}
+		key.addAll(dependencies);
+		segmentCache.write(writer, key, () -> {
+			writer.println("buildscript {");
+			writer.indented(() -> {
+				writeBuildscriptExt(writer, build);
+				writeBuildscriptRepositories(writer, build);
+				writeBuildscriptDependencies(writer, build);
+			});
+			writer.println("}");
 		});
-		writer.println("}");
 		return true;
 	}
 
@@ -97,11 +116,23 @@ public class GradleBuildWriter {
 
 	private void writePlugins(IndentingWriter writer, GradleBuild build,
 			boolean buildScriptWritten) {
-		writeNestedCollection(writer, "plugins", build.getPlugins(), this::pluginAsString,
-				determineBeforeWriting(buildScriptWritten, writer));
-		writeCollection(writer, build.getAppliedPlugins(),
-				(plugin) -> "apply plugin: '" + plugin + "'", writer::println);
-		writer.println();
+		List<Object> key = new ArrayList<>();
+		key.add("plugins");
+		key.add(buildScriptWritten);
+		build.getPlugins().forEach((plugin) -> {
+			key.add(plugin.getId());
+			key.add(plugin.getVersion());
+		});
+		key.add(build.getAppliedPlugins().size());
+		key.addAll(build.getAppliedPlugins());
+		segmentCache.write(writer, key, () -> {
+			writeNestedCollection(writer, "plugins", build.getPlugins(),
+					this::pluginAsString,
+					determineBeforeWriting(buildScriptWritten, writer));
+			writeCollection(writer, build.getAppliedPlugins(),
+					(plugin) -> "apply plugin: '" + plugin + "'", writer::println);
+			writer.println();
+		});
 	}
 
 	private Runnable determineBeforeWriting(boolean buildScriptWritten,
@@ -155,8 +186,7 @@ public class GradleBuildWriter {
 
 	private void writeRepositories(IndentingWriter writer, GradleBuild build,
 			Runnable beforeWriting) {
-		writeNestedCollection(writer, "repositories",
-				build.repositories().items().collect(Collectors.toList()),
+		writeNestedCollection(writer, "repositories", collect(build.repositories()),
 				this::repositoryAsString, beforeWriting);
 	}
 
@@ -188,22 +218,12 @@ public class GradleBuildWriter {
 	}
 
 	private void writeDependencies(IndentingWriter writer, GradleBuild build) {
-		Set<Dependency> sortedDependencies = new LinkedHashSet<>();
-		DependencyContainer dependencies = build.dependencies();
-		sortedDependencies
-				.addAll(filterDependencies(dependencies, DependencyScope.COMPILE));
-		sortedDependencies
-				.addAll(filterDependencies(dependencies, DependencyScope.COMPILE_ONLY));
-		sortedDependencies
-				.addAll(filterDependencies(dependencies, DependencyScope.RUNTIME));
-		sortedDependencies.addAll(
-				filterDependencies(dependencies, DependencyScope.ANNOTATION_PROCESSOR));
-		sortedDependencies.addAll(
-				filterDependencies(dependencies, DependencyScope.PROVIDED_RUNTIME));
-		sortedDependencies
-				.addAll(filterDependencies(dependencies, DependencyScope.TEST_COMPILE));
-		sortedDependencies
-				.addAll(filterDependencies(dependencies, DependencyScope.TEST_RUNTIME));
+		Map<DependencyScope, List<Dependency>> dependencies = build.dependencies()
+				.byScope();
+		List<Dependency> sortedDependencies = new ArrayList<>();
+		for (DependencyScope scope : DEPENDENCY_SCOPES_ORDER) {
+			sortedDependencies.addAll(dependencies.get(scope));
+		}
 		writeNestedCollection(writer, "dependencies", sortedDependencies,
 				this::dependencyAsString, writer::println);
 	}
@@ -222,9 +242,8 @@ public class GradleBuildWriter {
 		if (build.boms().isEmpty()) {
 			return;
 		}
-		List<BillOfMaterials> boms = build.boms().items()
-				.sorted(Comparator.comparingInt(BillOfMaterials::getOrder).reversed())
-				.collect(Collectors.toList());
+		List<BillOfMaterials> boms = collect(build.boms());
+		boms.sort(Comparator.comparingInt(BillOfMaterials::getOrder).reversed());
 		writer.println();
 		writer.println("dependencyManagement {");
 		writer.indented(
@@ -281,6 +300,14 @@ public class GradleBuildWriter {
 		});
 	}
 
+	private <T> List<T> collect(BuildItemContainer<?, T> container) {
+		List<T> items = new ArrayList<>(container.size());
+		for (int i = 0; i < container.size(); i++) {
+			items.add(container.itemAt(i));
+		}
+		return items;
+	}
+
 	private <T> void writeNestedCollection(IndentingWriter writer, String name,
 			Collection<T> collection, Function<T, String> itemToStringConverter) {
 		this.writeNestedCollection(writer, name, collection, itemToStringConverter, null);
@@ -335,13 +362,6 @@ public class GradleBuildWriter {
 		}
 	}
 
-	private static Collection<Dependency> filterDependencies(
-			DependencyContainer dependencies, DependencyScope... types) {
-		List<DependencyScope> candidates = Arrays.asList(types);
-		return dependencies.items().filter((dep) -> candidates.contains(dep.getScope()))
-				.sorted(DependencyComparator.INSTANCE).collect(Collectors.toList());
-	}
-
 	private String configurationForScope(DependencyScope type) {
 		switch (type) {
 		case ANNOTATION_PROCESSOR:
@@ -19,6 +19,7 @@ package io.spring.initializr.generator.buildsystem.gradle;
 import java.io.IOException;
 
 import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.generator.buildsystem.MavenRepositoryContainer;
 import io.spring.initializr.generator.io.IndentingWriter;
 
 /**
@@ -45,8 +46,10 @@ public class GradleSettingsWriter {
 	private void writeRepositories(IndentingWriter writer, GradleBuild build) {
 		writer.println("repositories {");
 		writer.indented(() -> {
-			build.pluginRepositories().items().map(this::repositoryAsString)
-					.forEach(writer::println);
+			MavenRepositoryContainer repositories = build.pluginRepositories();
+			for (int i = 0; i < repositories.size(); i++) {
+				writer.println(repositoryAsString(repositories.itemAt(i)));
+			}
 			writer.println("gradlePluginPortal()");
 		});
 		writer.println("}");
@@ -54,8 +57,7 @@ public class GradleSettingsWriter {
 
 	private void writeResolutionStrategyIfNecessary(IndentingWriter writer,
 			GradleBuild build) {
-		if (build.pluginRepositories().items()
-				.allMatch(MavenRepository.MAVEN_CENTRAL::equals)) {
+		if (!hasCustomRepository(build.pluginRepositories())) {
 			return;
 		}
 		writer.println("resolutionStrategy {");
@@ -72,6 +74,15 @@ public class GradleSettingsWriter {
 		writer.println("}");
 	}
 
+	private boolean hasCustomRepository(MavenRepositoryContainer repositories) {
+		for (int i = 0; i < repositories.size(); i++) {
+			if (!MavenRepository.MAVEN_CENTRAL.equals(repositories.itemAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private String repositoryAsString(MavenRepository repository) {
 		if (MavenRepository.MAVEN_CENTRAL.equals(repository)) {
 			return "mavenCentral()";
@@ -57,6 +57,7 @@ public class MavenBuild extends Build {
 	}
 
 	public MavenParent parent(String groupId, String artifactId, String version) {
+		assertNotFrozen();
 		this.parent = new MavenParent(groupId, artifactId, version);
 		return this.parent;
 	}
@@ -66,6 +67,7 @@ public class MavenBuild extends Build {
 	}
 
 	public void setName(String name) {
+		assertNotFrozen();
 		this.name = name;
 	}
 
@@ -74,6 +76,7 @@ public class MavenBuild extends Build {
 	}
 
 	public void setDescription(String description) {
+		assertNotFrozen();
 		this.description = description;
 	}
 
@@ -82,6 +85,7 @@ public class MavenBuild extends Build {
 	}
 
 	public void setProperty(String key, String value) {
+		assertNotFrozen();
 		this.properties.put(key, value);
 	}
 
@@ -94,6 +98,7 @@ public class MavenBuild extends Build {
 	}
 
 	public void setSourceDirectory(String sourceDirectory) {
+		assertNotFrozen();
 		this.sourceDirectory = sourceDirectory;
 	}
 
@@ -102,16 +107,19 @@ public class MavenBuild extends Build {
 	}
 
 	public void setTestSourceDirectory(String testSourceDirectory) {
+		assertNotFrozen();
 		this.testSourceDirectory = testSourceDirectory;
 	}
 
 	public MavenPlugin plugin(String groupId, String artifactId) {
+		assertNotFrozen();
 		MavenPlugin plugin = new MavenPlugin(groupId, artifactId);
 		this.plugins.add(plugin);
 		return plugin;
 	}
 
 	public MavenPlugin plugin(String groupId, String artifactId, String version) {
+		assertNotFrozen();
 		MavenPlugin plugin = new MavenPlugin(groupId, artifactId, version);
 		this.plugins.add(plugin);
 		return plugin;
@@ -122,6 +130,7 @@ public class MavenBuild extends Build {
 	}
 
 	public void setPackaging(String packaging) {
+		assertNotFrozen();
 		this.packaging = packaging;
 	}
 
@@ -17,34 +17,40 @@
 package io.spring.initializr.generator.buildsystem.maven;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import io.spring.initializr.generator.buildsystem.BillOfMaterials;
+import io.spring.initializr.generator.buildsystem.BomContainer;
 import io.spring.initializr.generator.buildsystem.Dependency;
 import io.spring.initializr.generator.buildsystem.DependencyComparator;
-import io.spring.initializr.generator.buildsystem.DependencyContainer;
 import io.spring.initializr.generator.buildsystem.DependencyScope;
 import io.spring.initializr.generator.buildsystem.MavenRepository;
+import io.spring.initializr.generator.buildsystem.MavenRepositoryContainer;
 import io.spring.initializr.generator.buildsystem.maven.MavenPlugin.Configuration;
 import io.spring.initializr.generator.buildsystem.maven.MavenPlugin.Execution;
 import io.spring.initializr.generator.buildsystem.maven.MavenPlugin.Setting;
 import io.spring.initializr.generator.io.IndentingWriter;
+import io.spring.initializr.generator.io.SegmentCache;
 import io.spring.initializr.generator.version.VersionReference;
 
 /**
- * A {@link MavenBuild} writer.
+ * A {@link MavenBuild} writer. The {@code pom.xml} is streamed to the
+ * {@link IndentingWriter} in a single pass and text content is escaped so that any value,
+ * such as the project description, produces a well-formed document.
  *
  * @author Andy Wilkinson
  * @author Stephane Nicoll
  */
 public class MavenBuildWriter {
 
+	private static final SegmentCache segmentCache = new SegmentCache(256);
+
 	public void writeTo(IndentingWriter writer, MavenBuild build) throws IOException {
 		writeProject(writer, () -> {
 			writeParent(writer, build);
@@ -78,14 +84,18 @@ public class MavenBuildWriter {
 		if (parent == null) {
 			return;
 		}
-		writer.println("<parent>");
-		writer.indented(() -> {
-			writeSingleElement(writer, "groupId", parent.getGroupId());
-			writeSingleElement(writer, "artifactId", parent.getArtifactId());
-			writeSingleElement(writer, "version", parent.getVersion());
-			writer.println("<relativePath/> <!-- lookup parent from repository -->");
+		List<String> key = Arrays.asList("parent", parent.getGroupId(),
+				parent.getArtifactId(), parent.getVersion());
+		segmentCache.write(writer, key, () -> {
+			writer.println("<parent>");
+			writer.indented(() -> {
+				writeSingleElement(writer, "groupId", parent.getGroupId());
+				writeSingleElement(writer, "artifactId", parent.getArtifactId());
+				writeSingleElement(writer, "version", parent.getVersion());
+				writer.println("<relativePath/> <!-- lookup parent from repository -->");
+			});
+			writer.println("</parent>");
 		});
-		writer.println("</parent>");
 	}
 
 	private void writeProjectCoordinates(IndentingWriter writer, MavenBuild build) {
@@ -123,28 +133,54 @@ public class MavenBuildWriter {
 		if (build.dependencies().isEmpty()) {
 			return;
 		}
-		DependencyContainer dependencies = build.dependencies();
+		Map<DependencyScope, List<Dependency>> dependencies = build.dependencies()
+				.byScope();
 		writer.println();
 		writeElement(writer, "dependencies", () -> {
-			Collection<Dependency> compiledDependencies = writeDependencies(writer,
-					dependencies, DependencyScope.COMPILE);
+			Collection<Dependency> compiledDependencies = dependencies
+					.get(DependencyScope.COMPILE);
+			writeCollection(writer, compiledDependencies, this::writeDependency);
 			if (!compiledDependencies.isEmpty()) {
 				writer.println();
 			}
-			writeDependencies(writer, dependencies, DependencyScope.RUNTIME);
-			writeDependencies(writer, dependencies, DependencyScope.COMPILE_ONLY);
-			writeDependencies(writer, dependencies, DependencyScope.ANNOTATION_PROCESSOR);
-			writeDependencies(writer, dependencies, DependencyScope.PROVIDED_RUNTIME);
-			writeDependencies(writer, dependencies, DependencyScope.TEST_COMPILE,
-					DependencyScope.TEST_RUNTIME);
+			writeCollection(writer, dependencies.get(DependencyScope.RUNTIME),
+					this::writeDependency);
+			writeCollection(writer, dependencies.get(DependencyScope.COMPILE_ONLY),
+					this::writeDependency);
+			writeCollection(writer,
+					dependencies.get(DependencyScope.ANNOTATION_PROCESSOR),
+					this::writeDependency);
+			writeCollection(writer, dependencies.get(DependencyScope.PROVIDED_RUNTIME),
+					this::writeDependency);
+			writeCollection(writer,
+					merge(dependencies.get(DependencyScope.TEST_COMPILE),
+							dependencies.get(DependencyScope.TEST_RUNTIME)),
+					this::writeDependency);
 		});
 	}
 
-	private Collection<Dependency> writeDependencies(IndentingWriter writer,
-			DependencyContainer dependencies, DependencyScope... types) {
-		Collection<Dependency> candidates = filterDependencies(dependencies, types);
-		writeCollection(writer, candidates, this::writeDependency);
-		return candidates;
+	private static List<Dependency> merge(List<Dependency> first,
+			List<Dependency> second) {
+		if (second.isEmpty()) {
+			return first;
+		}
+		if (first.isEmpty()) {
+			return second;
+		}
+		List<Dependency> merged = new ArrayList<>(first.size() + second.size());
+		int i = 0;
+		int j = 0;
+		while (i < first.size() && j < second.size()) {
+			if (DependencyComparator.INSTANCE.compare(first.get(i), second.get(j)) <= 0) {
+				merged.add(first.get(i++));
+			}
+			else {
+				merged.add(second.get(j++));
+			}
+		}
+		merged.addAll(first.subList(i, first.size()));
+		merged.addAll(second.subList(j, second.size()));
+		return merged;
 	}
 
 	private void writeDependency(IndentingWriter writer, Dependency dependency) {
@@ -161,13 +197,6 @@ public class MavenBuildWriter {
 		});
 	}
 
-	private static Collection<Dependency> filterDependencies(
-			DependencyContainer dependencies, DependencyScope... scopes) {
-		List<DependencyScope> candidates = Arrays.asList(scopes);
-		return dependencies.items().filter((dep) -> candidates.contains(dep.getScope()))
-				.sorted(DependencyComparator.INSTANCE).collect(Collectors.toList());
-	}
-
 	private String scopeForType(DependencyScope type) {
 		switch (type) {
 		case ANNOTATION_PROCESSOR:
@@ -199,9 +228,12 @@ public class MavenBuildWriter {
 		if (build.boms().isEmpty()) {
 			return;
 		}
-		List<BillOfMaterials> boms = build.boms().items()
-				.sorted(Comparator.comparing(BillOfMaterials::getOrder))
-				.collect(Collectors.toList());
+		BomContainer container = build.boms();
+		List<BillOfMaterials> boms = new ArrayList<>(container.size());
+		for (int i = 0; i < container.size(); i++) {
+			boms.add(container.itemAt(i));
+		}
+		boms.sort(Comparator.comparing(BillOfMaterials::getOrder));
 		writer.println();
 		writeElement(writer, "dependencyManagement", () -> writeElement(writer,
 				"dependencies", () -> writeCollection(writer, boms, this::writeBom)));
@@ -309,10 +341,9 @@ public class MavenBuildWriter {
 	}
 
 	private void writeRepositories(IndentingWriter writer, MavenBuild build) {
-		List<MavenRepository> repositories = filterRepositories(
-				build.repositories().items());
+		List<MavenRepository> repositories = filterRepositories(build.repositories());
 		List<MavenRepository> pluginRepositories = filterRepositories(
-				build.pluginRepositories().items());
+				build.pluginRepositories());
 		if (repositories.isEmpty() && pluginRepositories.isEmpty()) {
 			return;
 		}
@@ -327,10 +358,15 @@ public class MavenBuildWriter {
 	}
 
 	private List<MavenRepository> filterRepositories(
-			Stream<MavenRepository> repositories) {
-		return repositories
-				.filter((repository) -> !MavenRepository.MAVEN_CENTRAL.equals(repository))
-				.collect(Collectors.toList());
+			MavenRepositoryContainer repositories) {
+		List<MavenRepository> filtered = new ArrayList<>(repositories.size());
+		for (int i = 0; i < repositories.size(); i++) {
+			MavenRepository repository = repositories.itemAt(i);
+			if (!MavenRepository.MAVEN_CENTRAL.equals(repository)) {
+				filtered.add(repository);
+			}
+		}
+		return filtered;
 	}
 
 	private void writeRepositories(IndentingWriter writer, String containerName,
@@ -349,16 +385,57 @@ public class MavenBuildWriter {
 
 	private void writeSingleElement(IndentingWriter writer, String name, String text) {
 		if (text != null) {
-			writer.print(String.format("<%s>", name));
-			writer.print(text);
-			writer.println(String.format("</%s>", name));
+			writeStartTag(writer, name);
+			writeText(writer, text);
+			writeEndTag(writer, name);
+			writer.println();
 		}
 	}
 
 	private void writeElement(IndentingWriter writer, String name, Runnable withContent) {
-		writer.println(String.format("<%s>", name));
+		writeStartTag(writer, name);
+		writer.println();
 		writer.indented(withContent);
-		writer.println(String.format("</%s>", name));
+		writeEndTag(writer, name);
+		writer.println();
+	}
+
+	private void writeStartTag(IndentingWriter writer, String name) {
+		writer.print("<");
+		writer.print(name);
+		writer.print(">");
+	}
+
+	private void writeEndTag(IndentingWriter writer, String name) {
+		writer.print("</");
+		writer.print(name);
+		writer.print(">");
+	}
+
+	private void writeText(IndentingWriter writer, String text) {
+		int start = 0;
+		for (int i = 0; i < text.length(); i++) {
+			String replacement = escape(text.charAt(i));
+			if (replacement != null) {
+				writer.write(text, start, i - start);
+				writer.print(replacement);
+				start = i + 1;
+			}
+		}
+		writer.write(text, start, text.length() - start);
+	}
+
+	private static String escape(char c) {
+		switch (c) {
+		case '&':
+			return "&amp;";
+		case '<':
+			return "&lt;";
+		case '>':
+			return "&gt;";
+		default:
+			return null;
+		}
 	}
 
 	private <T> void writeCollection(IndentingWriter writer, Collection<T> collection,
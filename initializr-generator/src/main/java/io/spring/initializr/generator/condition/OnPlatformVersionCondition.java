@@ -17,7 +17,6 @@
 package io.spring.initializr.generator.condition;
 
 import io.spring.initializr.generator.project.ResolvedProjectDescription;
-import io.spring.initializr.generator.version.VersionParser;
 import io.spring.initializr.generator.version.VersionRange;
 
 import org.springframework.context.annotation.ConditionContext;
@@ -37,7 +36,7 @@ class OnPlatformVersionCondition extends ProjectGenerationCondition {
 		if (projectDescription.getPlatformVersion() == null) {
 			return false;
 		}
-		VersionRange range = VersionParser.DEFAULT.parseRange((String) metadata
+		VersionRange range = PlatformVersionRanges.get((String) metadata
 				.getAnnotationAttributes(ConditionalOnPlatformVersion.class.getName())
 				.get("value"));
 		return range.match(projectDescription.getPlatformVersion());
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.condition;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.spring.initializr.generator.project.ProjectGenerationConfiguration;
+import io.spring.initializr.generator.version.InvalidVersionException;
+import io.spring.initializr.generator.version.VersionParser;
+import io.spring.initializr.generator.version.VersionRange;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+
+/**
+ * Compiled {@link VersionRange version ranges} of platform version conditions. A range is
+ * parsed the first time it is requested and reused for the lifetime of the JVM, so this
+ * is meant for ranges declared in annotations, such as
+ * {@link ConditionalOnPlatformVersion}, rather than user input.
+ * <p>
+ * Ranges are {@link #precompile(ClassLoader) precompiled} on startup by
+ * {@link PlatformVersionRangesPrecompiler} so that an invalid range fails fast rather
+ * than when a project is generated.
+ *
+ * @author Initializr Team
+ */
+public final class PlatformVersionRanges {
+
+	private static final Log logger = LogFactory.getLog(PlatformVersionRanges.class);
+
+	private static final Map<String, VersionRange> ranges = new ConcurrentHashMap<>();
+
+	private PlatformVersionRanges() {
+	}
+
+	/**
+	 * Return the {@link VersionRange} for the specified range text, parsing it only if it
+	 * was not requested before.
+	 * @param range the range text
+	 * @return the compiled range
+	 * @throws InvalidVersionException if the range text could not be parsed
+	 */
+	public static VersionRange get(String range) {
+		VersionRange compiled = ranges.get(range);
+		if (compiled == null) {
+			compiled = VersionParser.DEFAULT.parseRange(range);
+			VersionRange existing = ranges.putIfAbsent(range, compiled);
+			return (existing != null) ? existing : compiled;
+		}
+		return compiled;
+	}
+
+	/**
+	 * Compile the ranges of the {@link ConditionalOnPlatformVersion} annotations declared
+	 * by the {@link ProjectGenerationConfiguration} classes registered in
+	 * {@code spring.factories}, including their nested and imported classes. Classes are
+	 * inspected without being loaded.
+	 * @param classLoader the class loader to use
+	 * @return the compiled ranges, keyed by range text
+	 * @throws IllegalStateException if a range is invalid
+	 */
+	public static Map<String, VersionRange> precompile(ClassLoader classLoader) {
+		MetadataReaderFactory metadataReaderFactory = new SimpleMetadataReaderFactory(
+				classLoader);
+		Map<String, VersionRange> compiled = new LinkedHashMap<>();
+		Deque<String> classNames = new LinkedList<>(SpringFactoriesLoader
+				.loadFactoryNames(ProjectGenerationConfiguration.class, classLoader));
+		Set<String> visited = new HashSet<>();
+		while (!classNames.isEmpty()) {
+			String className = classNames.pop();
+			if (!visited.add(className)) {
+				continue;
+			}
+			AnnotationMetadata metadata = getAnnotationMetadata(metadataReaderFactory,
+					className);
+			compile(compiled, className, metadata);
+			for (MethodMetadata method : metadata
+					.getAnnotatedMethods(ConditionalOnPlatformVersion.class.getName())) {
+				compile(compiled, className + "#" + method.getMethodName(), method);
+			}
+			for (String memberClassName : metadata.getMemberClassNames()) {
+				classNames.add(memberClassName);
+			}
+			Map<String, Object> imports = metadata
+					.getAnnotationAttributes(Import.class.getName(), true);
+			if (imports != null) {
+				for (String importedClassName : (String[]) imports.get("value")) {
+					classNames.add(importedClassName);
+				}
+			}
+		}
+		if (logger.isInfoEnabled()) {
+			logger.info("Precompiled " + compiled.size() + " platform version range(s) "
+					+ compiled.keySet());
+		}
+		return compiled;
+	}
+
+	private static AnnotationMetadata getAnnotationMetadata(
+			MetadataReaderFactory metadataReaderFactory, String className) {
+		try {
+			return metadataReaderFactory.getMetadataReader(className)
+					.getAnnotationMetadata();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException("Failed to read metadata of " + className,
+					ex);
+		}
+	}
+
+	private static void compile(Map<String, VersionRange> compiled, String source,
+			AnnotatedTypeMetadata metadata) {
+		Map<String, Object> attributes = metadata
+				.getAnnotationAttributes(ConditionalOnPlatformVersion.class.getName());
+		if (attributes == null) {
+			return;
+		}
+		String range = (String) attributes.get("value");
+		try {
+			compiled.put(range, get(range));
+		}
+		catch (InvalidVersionException ex) {
+			throw new IllegalStateException(
+					"Invalid platform version range '" + range + "' on " + source, ex);
+		}
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.condition;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ApplicationListener} that {@link PlatformVersionRanges#precompile(ClassLoader)
+ * precompiles} the platform version ranges once the application context has been
+ * refreshed, so that an invalid range prevents the application from starting. Registered
+ * in {@code spring.factories} so that Spring Boot applications pick it up, other
+ * applications can register it as a bean.
+ *
+ * @author Initializr Team
+ */
+public class PlatformVersionRangesPrecompiler
+		implements ApplicationListener<ContextRefreshedEvent> {
+
+	private final AtomicBoolean precompiled = new AtomicBoolean();
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		// Child contexts, such as project generation contexts, also publish this event
+		if (this.precompiled.compareAndSet(false, true)) {
+			ClassLoader classLoader = event.getApplicationContext().getClassLoader();
+			PlatformVersionRanges.precompile((classLoader != null) ? classLoader
+					: ClassUtils.getDefaultClassLoader());
+		}
+	}
+
+}
@@ -17,7 +17,9 @@
 package io.spring.initializr.generator.io;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.function.Function;
 
 /**
@@ -27,7 +29,7 @@ import java.util.function.Function;
  */
 public class IndentingWriter extends Writer {
 
-	private final Writer out;
+	private Writer out;
 
 	private final Function<Integer, String> indentStrategy;
 
@@ -47,18 +49,18 @@ public class IndentingWriter extends Writer {
 	}
 
 	public void print(String string) {
-		write(string.toCharArray(), 0, string.length());
+		write(string, 0, string.length());
 	}
 
 	public void println(String string) {
-		write(string.toCharArray(), 0, string.length());
+		write(string, 0, string.length());
 		println();
 	}
 
 	public void println() {
 		String separator = System.lineSeparator();
 		try {
-			this.out.write(separator.toCharArray(), 0, separator.length());
+			this.out.write(separator, 0, separator.length());
 		}
 		catch (IOException ex) {
 			throw new IllegalStateException(ex);
@@ -72,6 +74,60 @@ public class IndentingWriter extends Writer {
 		outdent();
 	}
 
+	/**
+	 * Return the state that determines how content is written from the current position,
+	 * that is the indent of a single level, the current level and whether the next line
+	 * should be indented. Only a {@link SimpleIndentStrategy} can be described that way.
+	 * @return the layout state of this writer, or {@code null} if its indent strategy is
+	 * not a {@link SimpleIndentStrategy}
+	 * @see SegmentCache
+	 */
+	Object layoutState() {
+		if (this.indentStrategy.getClass() != SimpleIndentStrategy.class) {
+			return null;
+		}
+		return Arrays.asList(((SimpleIndentStrategy) this.indentStrategy).getIndent(),
+				this.level, this.prependIndent);
+	}
+
+	/**
+	 * Run the specified segment and return what it has written rather than writing it to
+	 * the underlying output.
+	 * @param segment the segment to run
+	 * @return the content written by the segment
+	 * @see #writeCaptured(String)
+	 */
+	String capture(Runnable segment) {
+		Writer original = this.out;
+		StringWriter captured = new StringWriter();
+		this.out = captured;
+		try {
+			segment.run();
+		}
+		finally {
+			this.out = original;
+		}
+		return captured.toString();
+	}
+
+	/**
+	 * Write content that was {@link #capture(Runnable) captured} with the same
+	 * {@link #layoutState() layout state} as-is.
+	 * @param content the captured content
+	 */
+	void writeCaptured(String content) {
+		if (content.isEmpty()) {
+			return;
+		}
+		try {
+			this.out.write(content, 0, content.length());
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+		this.prependIndent = content.endsWith(System.lineSeparator());
+	}
+
 	private void indent() {
 		this.level++;
 		refreshIndent();
@@ -90,7 +146,7 @@ public class IndentingWriter extends Writer {
 	public void write(char[] chars, int offset, int length) {
 		try {
 			if (this.prependIndent) {
-				this.out.write(this.indent.toCharArray(), 0, this.indent.length());
+				this.out.write(this.indent, 0, this.indent.length());
 				this.prependIndent = false;
 			}
 			this.out.write(chars, offset, length);
@@ -100,6 +156,20 @@ public class IndentingWriter extends Writer {
 		}
 	}
 
+	@Override
+	public void write(String string, int offset, int length) {
+		try {
+			if (this.prependIndent) {
+				this.out.write(this.indent, 0, this.indent.length());
+				this.prependIndent = false;
+			}
+			this.out.write(string, offset, length);
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		this.out.flush();
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * A cache of segments written by an {@link IndentingWriter}. A segment is identified by a
+ * key that holds all the values it depends on: the first time a key is written, the
+ * segment is rendered and its output is kept so that it can be written as-is the next
+ * time. Output is only reused for writers with the same indent and position, and only if
+ * they use a {@link SimpleIndentStrategy}: segments written with any other strategy are
+ * rendered every time. Once the cache is full, new segments are rendered without being
+ * cached.
+ * <p>
+ * Only segments that depend on the build should be cached: constant content is cheaper to
+ * write directly.
+ *
+ * @author Initializr Team
+ */
+public final class SegmentCache {
+
+	private final int maxSize;
+
+	private final Map<Object, String> segments = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new instance holding at most the specified number of segments.
+	 * @param maxSize the maximum number of segments
+	 */
+	public SegmentCache(int maxSize) {
+		Assert.isTrue(maxSize > 0, "Max size must be positive");
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Write the segment identified by the specified {@code key}, rendering it only if it
+	 * is not available yet.
+	 * @param writer the writer to use
+	 * @param key the key of the segment, with suitable {@code equals} and
+	 * {@code hashCode} implementations
+	 * @param segment the callback that writes the segment to the writer
+	 */
+	public void write(IndentingWriter writer, Object key, Runnable segment) {
+		Object layoutState = writer.layoutState();
+		if (layoutState == null) {
+			segment.run();
+			return;
+		}
+		Object cacheKey = Arrays.asList(key, layoutState);
+		String content = this.segments.get(cacheKey);
+		if (content == null) {
+			content = writer.capture(segment);
+			if (this.segments.size() < this.maxSize) {
+				this.segments.putIfAbsent(cacheKey, content);
+			}
+		}
+		writer.writeCaptured(content);
+	}
+
+}
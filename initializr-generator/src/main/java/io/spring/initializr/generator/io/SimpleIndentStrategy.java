@@ -51,4 +51,8 @@ public class SimpleIndentStrategy implements Function<Integer, String> {
 		return indentBuilder.toString();
 	}
 
+	String getIndent() {
+		return this.indent;
+	}
+
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link Writer} that encodes characters as UTF-8 straight into a reusable
+ * {@link ByteBuffer} and hands completed buffers to a {@link WritableByteChannel}.
+ * Generated content is mostly ASCII so single-byte characters are copied without going
+ * through a {@link java.nio.charset.CharsetEncoder}. Malformed surrogates are replaced by
+ * {@code ?}, consistent with {@link String#getBytes}.
+ *
+ * @author Initializr Team
+ * @see IndentingWriter
+ */
+public class Utf8ByteBufferWriter extends Writer {
+
+	private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	private static final byte REPLACEMENT = '?';
+
+	private final WritableByteChannel channel;
+
+	private final byte[] bytes;
+
+	private final ByteBuffer buffer;
+
+	private int position;
+
+	private char highSurrogate;
+
+	private boolean closed;
+
+	/**
+	 * Create a new instance writing to the specified {@link WritableByteChannel}.
+	 * @param channel the channel to write to
+	 */
+	public Utf8ByteBufferWriter(WritableByteChannel channel) {
+		this(channel, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a new instance writing to the specified {@link WritableByteChannel}.
+	 * @param channel the channel to write to
+	 * @param bufferSize the size of the buffer, in bytes
+	 */
+	public Utf8ByteBufferWriter(WritableByteChannel channel, int bufferSize) {
+		Assert.notNull(channel, "Channel must not be null");
+		Assert.isTrue(bufferSize >= 4, "Buffer size must be at least 4 bytes");
+		this.channel = channel;
+		this.bytes = new byte[bufferSize];
+		this.buffer = ByteBuffer.wrap(this.bytes);
+	}
+
+	/**
+	 * Create a new instance writing to the specified {@link OutputStream}.
+	 * @param out the stream to write to
+	 */
+	public Utf8ByteBufferWriter(OutputStream out) {
+		this(Channels.newChannel(out));
+	}
+
+	/**
+	 * Create a {@link Utf8ByteBufferWriter} for the specified file, creating it if
+	 * necessary and truncating it otherwise.
+	 * @param file the file to write to
+	 * @return a writer for that file
+	 * @throws IOException if the file could not be opened
+	 */
+	public static Utf8ByteBufferWriter create(Path file) throws IOException {
+		return create(file, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Create a {@link Utf8ByteBufferWriter} for the specified file, creating it if
+	 * necessary and truncating it otherwise.
+	 * @param file the file to write to
+	 * @param bufferSize the size of the buffer, in bytes
+	 * @return a writer for that file
+	 * @throws IOException if the file could not be opened
+	 */
+	public static Utf8ByteBufferWriter create(Path file, int bufferSize)
+			throws IOException {
+		return new Utf8ByteBufferWriter(
+				FileChannel.open(file, StandardOpenOption.CREATE,
+						StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE),
+				bufferSize);
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		ensureOpen();
+		encode((char) c);
+	}
+
+	@Override
+	public void write(char[] chars, int offset, int length) throws IOException {
+		ensureOpen();
+		int end = offset + length;
+		int i = offset;
+		while (i < end) {
+			if (this.highSurrogate == 0) {
+				// ASCII fast path
+				int limit = Math.min(end, i + (this.bytes.length - this.position));
+				while (i < limit) {
+					char c = chars[i];
+					if (c >= 0x80) {
+						break;
+					}
+					this.bytes[this.position++] = (byte) c;
+					i++;
+				}
+				if (i == end) {
+					break;
+				}
+				if (this.position == this.bytes.length) {
+					drain();
+					continue;
+				}
+			}
+			encode(chars[i++]);
+		}
+	}
+
+	@Override
+	public void write(String str, int offset, int length) throws IOException {
+		ensureOpen();
+		int end = offset + length;
+		int i = offset;
+		while (i < end) {
+			if (this.highSurrogate == 0) {
+				// ASCII fast path
+				int limit = Math.min(end, i + (this.bytes.length - this.position));
+				while (i < limit) {
+					char c = str.charAt(i);
+					if (c >= 0x80) {
+						break;
+					}
+					this.bytes[this.position++] = (byte) c;
+					i++;
+				}
+				if (i == end) {
+					break;
+				}
+				if (this.position == this.bytes.length) {
+					drain();
+					continue;
+				}
+			}
+			encode(str.charAt(i++));
+		}
+	}
+
+	private void encode(char c) throws IOException {
+		if (this.bytes.length - this.position < 4) {
+			drain();
+		}
+		if (this.highSurrogate != 0) {
+			char high = this.highSurrogate;
+			this.highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				encodeCodePoint(Character.toCodePoint(high, c));
+				return;
+			}
+			this.bytes[this.position++] = REPLACEMENT;
+		}
+		if (c < 0x80) {
+			this.bytes[this.position++] = (byte) c;
+		}
+		else if (c < 0x800) {
+			this.bytes[this.position++] = (byte) (0xC0 | (c >> 6));
+			this.bytes[this.position++] = (byte) (0x80 | (c & 0x3F));
+		}
+		else if (Character.isHighSurrogate(c)) {
+			this.highSurrogate = c;
+		}
+		else if (Character.isLowSurrogate(c)) {
+			this.bytes[this.position++] = REPLACEMENT;
+		}
+		else {
+			this.bytes[this.position++] = (byte) (0xE0 | (c >> 12));
+			this.bytes[this.position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+			this.bytes[this.position++] = (byte) (0x80 | (c & 0x3F));
+		}
+	}
+
+	private void encodeCodePoint(int codePoint) {
+		this.bytes[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+		this.bytes[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+		this.bytes[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+		this.bytes[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+	}
+
+	private void drain() throws IOException {
+		if (this.position == 0) {
+			return;
+		}
+		this.buffer.clear();
+		this.buffer.limit(this.position);
+		while (this.buffer.hasRemaining()) {
+			this.channel.write(this.buffer);
+		}
+		this.position = 0;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (this.closed) {
+			throw new IOException("Writer is closed");
+		}
+	}
+
+	/**
+	 * Write buffered bytes to the underlying channel. A pending high surrogate is kept
+	 * until its low surrogate is written.
+	 * @throws IOException if the channel could not be written to
+	 */
+	@Override
+	public void flush() throws IOException {
+		ensureOpen();
+		drain();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (this.closed) {
+			return;
+		}
+		try {
+			if (this.highSurrogate != 0) {
+				this.highSurrogate = 0;
+				this.bytes[this.position++] = REPLACEMENT;
+			}
+			drain();
+		}
+		finally {
+			this.closed = true;
+			this.channel.close();
+		}
+	}
+
+}
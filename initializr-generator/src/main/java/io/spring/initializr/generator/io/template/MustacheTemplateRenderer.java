@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -32,6 +33,7 @@ import org.springframework.cache.Cache;
 import org.springframework.cache.Cache.ValueRetrievalException;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.Assert;
 
 /**
  * A {@link TemplateRenderer} using Mustache.
@@ -46,12 +48,17 @@ public class MustacheTemplateRenderer implements TemplateRenderer {
 
 	private final Cache templateCache;
 
+	private final String prefix;
+
+	private volatile boolean watched;
+
 	public MustacheTemplateRenderer(String resourcePrefix, Cache templateCache) {
 		String prefix = (resourcePrefix.endsWith("/") ? resourcePrefix
 				: resourcePrefix + "/");
 		this.mustache = Mustache.compiler().withLoader(mustacheTemplateLoader(prefix));
 		this.keyGenerator = (name) -> String.format("%s%s", prefix, name);
 		this.templateCache = templateCache;
+		this.prefix = prefix;
 	}
 
 	public MustacheTemplateRenderer(String resourcePrefix) {
@@ -61,13 +68,53 @@ public class MustacheTemplateRenderer implements TemplateRenderer {
 	private static TemplateLoader mustacheTemplateLoader(String prefix) {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		return (name) -> {
-			String location = prefix + name + ".mustache";
+			String location = getTemplateLocation(prefix, name);
 			return new InputStreamReader(
 					resourceLoader.getResource(location).getInputStream(),
 					StandardCharsets.UTF_8);
 		};
 	}
 
+	private static String getTemplateLocation(String prefix, String name) {
+		return prefix + name + ".mustache";
+	}
+
+	/**
+	 * Return the location of the resource of the template with the specified name.
+	 * @param templateName the name of a template
+	 * @return the resource location of that template
+	 */
+	public String getTemplateLocation(String templateName) {
+		return getTemplateLocation(this.prefix, templateName);
+	}
+
+	/**
+	 * Specify if templates are watched for changes, in which case the content of a
+	 * template may differ from the resource at {@link #getTemplateLocation(String) its
+	 * location}.
+	 * @return {@code true} if {@link #watch(Path)} has been invoked on this instance
+	 */
+	public boolean isWatched() {
+		return this.watched;
+	}
+
+	/**
+	 * Watch the specified directory for changes to templates in the background. Changed
+	 * templates are recompiled and replace the previous version in the template cache so
+	 * that renders keep using the cache. Primarily meant for development, where the
+	 * directory is the source of the templates this instance loads.
+	 * @param directory the directory to watch
+	 * @return a {@link MustacheTemplateWatcher} that should be closed to stop watching
+	 * @throws IOException if the directory could not be watched
+	 */
+	public MustacheTemplateWatcher watch(Path directory) throws IOException {
+		Assert.state(this.templateCache != null,
+				"A template cache is required to watch templates");
+		MustacheTemplateWatcher watcher = new MustacheTemplateWatcher(this, directory);
+		this.watched = true;
+		return watcher;
+	}
+
 	@Override
 	public String render(String templateName, Map<String, ?> model) throws IOException {
 		Template template = getTemplate(templateName);
@@ -97,4 +144,13 @@ public class MustacheTemplateRenderer implements TemplateRenderer {
 		return this.mustache.compile(template);
 	}
 
+	void updateTemplate(String name, Reader template) {
+		this.templateCache.put(this.keyGenerator.apply(name),
+				this.mustache.compile(template));
+	}
+
+	void evictTemplate(String name) {
+		this.templateCache.evict(this.keyGenerator.apply(name));
+	}
+
 }
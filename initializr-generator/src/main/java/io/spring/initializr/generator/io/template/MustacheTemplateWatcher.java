@@ -0,0 +1,229 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io.template;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Watch a directory of Mustache templates and update the template cache of a
+ * {@link MustacheTemplateRenderer} when a template changes. Only changed templates are
+ * recompiled, once no further change has been detected for a quiet period so that a file
+ * that is still being written is not picked up. A template that is empty or that fails to
+ * compile keeps its previous version.
+ *
+ * @author Initializr Team
+ * @see MustacheTemplateRenderer#watch(Path)
+ */
+public final class MustacheTemplateWatcher implements Closeable {
+
+	private static final Log logger = LogFactory.getLog(MustacheTemplateWatcher.class);
+
+	private static final String TEMPLATE_EXTENSION = ".mustache";
+
+	static final Duration DEFAULT_QUIET_PERIOD = Duration.ofMillis(300);
+
+	private final MustacheTemplateRenderer renderer;
+
+	private final Path directory;
+
+	private final long quietPeriod;
+
+	private final WatchService watchService;
+
+	private final Thread thread;
+
+	/**
+	 * Changed templates that have not been refreshed yet, with the time of their last
+	 * change. Only accessed by the watcher thread.
+	 */
+	private final Map<Path, Long> pendingChanges = new LinkedHashMap<>();
+
+	MustacheTemplateWatcher(MustacheTemplateRenderer renderer, Path directory)
+			throws IOException {
+		this(renderer, directory, DEFAULT_QUIET_PERIOD);
+	}
+
+	MustacheTemplateWatcher(MustacheTemplateRenderer renderer, Path directory,
+			Duration quietPeriod) throws IOException {
+		Assert.isTrue(Files.isDirectory(directory),
+				() -> "Template directory '" + directory + "' does not exist");
+		this.renderer = renderer;
+		this.directory = directory.toAbsolutePath().normalize();
+		this.quietPeriod = quietPeriod.toNanos();
+		this.watchService = FileSystems.getDefault().newWatchService();
+		registerAll(this.directory);
+		this.thread = new Thread(this::watch, "mustache-template-watcher");
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	private void registerAll(Path root) throws IOException {
+		try (Stream<Path> directories = Files.walk(root).filter(Files::isDirectory)) {
+			for (Path directory : (Iterable<Path>) directories::iterator) {
+				directory.register(this.watchService,
+						StandardWatchEventKinds.ENTRY_CREATE,
+						StandardWatchEventKinds.ENTRY_MODIFY,
+						StandardWatchEventKinds.ENTRY_DELETE);
+			}
+		}
+	}
+
+	private void watch() {
+		while (true) {
+			WatchKey key;
+			try {
+				key = nextKey();
+			}
+			catch (InterruptedException | ClosedWatchServiceException ex) {
+				return;
+			}
+			if (key != null) {
+				Path parent = (Path) key.watchable();
+				for (WatchEvent<?> event : key.pollEvents()) {
+					if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+						scheduleAll(this.directory);
+					}
+					else {
+						onChange(event.kind(), parent.resolve((Path) event.context()));
+					}
+				}
+				key.reset();
+			}
+			refreshSettledTemplates();
+		}
+	}
+
+	private WatchKey nextKey() throws InterruptedException {
+		if (this.pendingChanges.isEmpty()) {
+			return this.watchService.take();
+		}
+		long oldestChange = this.pendingChanges.values().stream().min(Long::compare)
+				.get();
+		long timeout = Math.max(oldestChange + this.quietPeriod - System.nanoTime(),
+				TimeUnit.MILLISECONDS.toNanos(1));
+		return this.watchService.poll(timeout, TimeUnit.NANOSECONDS);
+	}
+
+	private void onChange(WatchEvent.Kind<?> kind, Path path) {
+		if (kind == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(path)) {
+			try {
+				registerAll(path);
+			}
+			catch (IOException ex) {
+				logger.warn("Failed to watch template directory '" + path + "'", ex);
+			}
+			scheduleAll(path);
+		}
+		else if (getTemplateName(path) != null) {
+			this.pendingChanges.put(path, System.nanoTime());
+		}
+	}
+
+	private void scheduleAll(Path root) {
+		try (Stream<Path> files = Files.walk(root)) {
+			files.filter(Files::isRegularFile).forEach((file) -> {
+				if (getTemplateName(file) != null) {
+					this.pendingChanges.put(file, System.nanoTime());
+				}
+			});
+		}
+		catch (IOException ex) {
+			logger.warn("Failed to refresh templates in '" + root + "'", ex);
+		}
+	}
+
+	private void refreshSettledTemplates() {
+		long now = System.nanoTime();
+		Iterator<Map.Entry<Path, Long>> changes = this.pendingChanges.entrySet()
+				.iterator();
+		while (changes.hasNext()) {
+			Map.Entry<Path, Long> change = changes.next();
+			if (now - change.getValue() >= this.quietPeriod) {
+				changes.remove();
+				Path file = change.getKey();
+				String name = getTemplateName(file);
+				if (Files.exists(file)) {
+					refresh(name, file);
+				}
+				else {
+					this.renderer.evictTemplate(name);
+				}
+			}
+		}
+	}
+
+	private void refresh(String name, Path file) {
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		try {
+			String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			if (content.isEmpty()) {
+				logger.warn("Template '" + name + "' is empty, keeping previous version");
+				return;
+			}
+			this.renderer.updateTemplate(name, new StringReader(content));
+			if (logger.isDebugEnabled()) {
+				logger.debug("Reloaded template '" + name + "'");
+			}
+		}
+		catch (Exception ex) {
+			logger.warn("Failed to reload template '" + name + "', keeping previous "
+					+ "version", ex);
+		}
+	}
+
+	private String getTemplateName(Path file) {
+		String fileName = file.getFileName().toString();
+		if (!fileName.endsWith(TEMPLATE_EXTENSION)) {
+			return null;
+		}
+		String relativePath = this.directory.relativize(file).toString()
+				.replace(file.getFileSystem().getSeparator(), "/");
+		return relativePath.substring(0,
+				relativePath.length() - TEMPLATE_EXTENSION.length());
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.watchService.close();
+		this.thread.interrupt();
+	}
+
+}
@@ -20,9 +20,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.function.ToIntFunction;
 
 import io.spring.initializr.generator.io.template.TemplateRenderer;
 
@@ -34,27 +33,51 @@ import io.spring.initializr.generator.io.template.TemplateRenderer;
  */
 public class BulletedSection<T> implements Section {
 
+	private static final int ESTIMATED_HEADER_SIZE = 128;
+
+	private static final int ESTIMATED_ITEM_SIZE = 64;
+
 	private final TemplateRenderer templateRenderer;
 
 	private final String templateName;
 
 	private final String itemName;
 
+	private final ToIntFunction<T> itemSizeEstimator;
+
 	private List<T> items = new ArrayList<>();
 
+	private int estimatedItemsSize;
+
 	public BulletedSection(TemplateRenderer templateRenderer, String templateName) {
 		this(templateRenderer, templateName, "items");
 	}
 
 	public BulletedSection(TemplateRenderer templateRenderer, String templateName,
 			String itemName) {
+		this(templateRenderer, templateName, itemName, (item) -> ESTIMATED_ITEM_SIZE);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param templateRenderer the template renderer to use
+	 * @param templateName the name of the template
+	 * @param itemName the name of the items in the model
+	 * @param itemSizeEstimator the function to use to estimate the rendered size of an
+	 * item
+	 * @see #estimatedSize()
+	 */
+	public BulletedSection(TemplateRenderer templateRenderer, String templateName,
+			String itemName, ToIntFunction<T> itemSizeEstimator) {
 		this.templateRenderer = templateRenderer;
 		this.templateName = templateName;
 		this.itemName = itemName;
+		this.itemSizeEstimator = itemSizeEstimator;
 	}
 
 	public BulletedSection addItem(T item) {
 		this.items.add(item);
+		this.estimatedItemsSize += this.itemSizeEstimator.applyAsInt(item);
 		return this;
 	}
 
@@ -69,10 +92,14 @@ public class BulletedSection<T> implements Section {
 	@Override
 	public void write(PrintWriter writer) throws IOException {
 		if (!isEmpty()) {
-			Map<String, Object> model = new HashMap<>();
-			model.put(this.itemName, this.items);
-			writer.println(this.templateRenderer.render(this.templateName, model));
+			writer.println(this.templateRenderer.render(this.templateName,
+					Collections.singletonMap(this.itemName, this.items)));
 		}
 	}
 
+	@Override
+	public int estimatedSize() {
+		return (isEmpty()) ? 0 : ESTIMATED_HEADER_SIZE + this.estimatedItemsSize;
+	}
+
 }
@@ -29,4 +29,13 @@ public interface Section {
 
 	void write(PrintWriter writer) throws IOException;
 
+	/**
+	 * Return an estimate of the number of characters this section writes. Used as a hint
+	 * to size output buffers.
+	 * @return the estimated size of this section, or {@code 0} if it is not known
+	 */
+	default int estimatedSize() {
+		return 0;
+	}
+
 }
@@ -36,6 +36,7 @@ import java.util.stream.Stream;
 
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.io.IndentingWriterFactory;
+import io.spring.initializr.generator.io.Utf8ByteBufferWriter;
 import io.spring.initializr.generator.language.Annotatable;
 import io.spring.initializr.generator.language.Annotation;
 import io.spring.initializr.generator.language.Parameter;
@@ -85,7 +86,7 @@ public class GroovySourceCodeWriter implements SourceCodeWriter<GroovySourceCode
 		Path output = fileForCompilationUnit(directory, compilationUnit);
 		Files.createDirectories(output.getParent());
 		try (IndentingWriter writer = this.indentingWriterFactory
-				.createIndentingWriter("groovy", Files.newBufferedWriter(output))) {
+				.createIndentingWriter("groovy", Utf8ByteBufferWriter.create(output))) {
 			writer.println("package " + compilationUnit.getPackageName());
 			writer.println();
 			Set<String> imports = determineImports(compilationUnit);
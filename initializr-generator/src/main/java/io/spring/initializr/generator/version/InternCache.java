@@ -0,0 +1,62 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.version;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A concurrent cache of canonical instances keyed by their text. Once the cache is full,
+ * nothing is evicted and instances for new texts are created without being cached, so
+ * that the first instances, typically those of the metadata, remain canonical.
+ *
+ * @param <T> the type of the cached instances
+ * @author Initializr Team
+ */
+final class InternCache<T> {
+
+	private final int maxSize;
+
+	private final Map<String, T> instances = new ConcurrentHashMap<>();
+
+	InternCache(int maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Return the canonical instance for the specified {@code text}, creating it if
+	 * necessary. Nothing is cached if the factory throws an exception or if the cache is
+	 * full.
+	 * @param text the text of the instance
+	 * @param factory the factory to use to create the instance
+	 * @return the canonical instance, or a new instance if the cache is full
+	 */
+	T get(String text, Function<String, T> factory) {
+		T instance = this.instances.get(text);
+		if (instance != null) {
+			return instance;
+		}
+		instance = factory.apply(text);
+		if (this.instances.size() >= this.maxSize) {
+			return instance;
+		}
+		T existing = this.instances.putIfAbsent(text, instance);
+		return (existing != null) ? existing : instance;
+	}
+
+}
@@ -16,11 +16,10 @@
 
 package io.spring.initializr.generator.version;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Comparator;
-import java.util.List;
 
 import org.springframework.util.StringUtils;
 
@@ -42,8 +41,17 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	private static final VersionQualifierComparator qualifierComparator = new VersionQualifierComparator();
 
-	private static final VersionParser parser = new VersionParser(
-			Collections.emptyList());
+	private static final int NUMBER_BITS = 13;
+
+	private static final int QUALIFIER_RANK_BITS = 3;
+
+	private static final int QUALIFIER_VERSION_BITS = 18;
+
+	private static final long KEY_NOT_COMPUTED = 0;
+
+	private static final long KEY_COMPUTED = 1L << 62;
+
+	private static final long KEY_NOT_PACKABLE = -1;
 
 	private final Integer major;
 
@@ -53,6 +61,14 @@ public final class Version implements Serializable, Comparable<Version> {
 
 	private final Qualifier qualifier;
 
+	/**
+	 * Sort key packing the major, minor, patch, qualifier rank and qualifier version in
+	 * this order, flagged with {@link #KEY_COMPUTED} so that it is never
+	 * {@link #KEY_NOT_COMPUTED}. Computed lazily as Jackson and serialization set the
+	 * fields after construction.
+	 */
+	private transient volatile long sortKey;
+
 	// For Jackson
 	@SuppressWarnings("unused")
 	private Version() {
@@ -91,7 +107,7 @@ public final class Version implements Serializable, Comparable<Version> {
 	 * @see VersionParser
 	 */
 	public static Version parse(String text) {
-		return parser.parse(text);
+		return VersionParser.DEFAULT.parse(text);
 	}
 
 	/**
@@ -116,6 +132,16 @@ public final class Version implements Serializable, Comparable<Version> {
 		if (other == null) {
 			return 1;
 		}
+		long key = getSortKey();
+		long otherKey = other.getSortKey();
+		if (key != KEY_NOT_PACKABLE && otherKey != KEY_NOT_PACKABLE) {
+			if ((key >>> QUALIFIER_VERSION_BITS) == (otherKey >>> QUALIFIER_VERSION_BITS)
+					&& qualifierRank(key) == VersionQualifierComparator.UNKNOWN_RANK) {
+				// Unknown qualifiers use alphabetical ordering before their version
+				return qualifierComparator.compare(this.qualifier, other.qualifier);
+			}
+			return Long.compare(key, otherKey);
+		}
 		int majorDiff = safeCompare(this.major, other.major);
 		if (majorDiff != 0) {
 			return majorDiff;
@@ -132,9 +158,55 @@ public final class Version implements Serializable, Comparable<Version> {
 	}
 
 	private static int safeCompare(Integer first, Integer second) {
-		Integer firstIndex = (first != null) ? first : 0;
-		Integer secondIndex = (second != null) ? second : 0;
-		return firstIndex.compareTo(secondIndex);
+		return Integer.compare((first != null) ? first : 0,
+				(second != null) ? second : 0);
+	}
+
+	private long getSortKey() {
+		long key = this.sortKey;
+		if (key == KEY_NOT_COMPUTED) {
+			key = computeSortKey();
+			this.sortKey = key;
+		}
+		return key;
+	}
+
+	private long computeSortKey() {
+		int qualifierVersion = (this.qualifier != null
+				&& this.qualifier.getVersion() != null) ? this.qualifier.getVersion() : 0;
+		if (!fits(this.major, NUMBER_BITS) || !fits(this.minor, NUMBER_BITS)
+				|| !fits(this.patch, NUMBER_BITS)
+				|| !fits(qualifierVersion, QUALIFIER_VERSION_BITS)) {
+			return KEY_NOT_PACKABLE;
+		}
+		long key = valueOf(this.major);
+		key = (key << NUMBER_BITS) | valueOf(this.minor);
+		key = (key << NUMBER_BITS) | valueOf(this.patch);
+		key = (key << QUALIFIER_RANK_BITS)
+				| VersionQualifierComparator.getQualifierRank(this.qualifier);
+		key = (key << QUALIFIER_VERSION_BITS) | qualifierVersion;
+		return key | KEY_COMPUTED;
+	}
+
+	private static int qualifierRank(long sortKey) {
+		return (int) ((sortKey >>> QUALIFIER_VERSION_BITS)
+				& ((1 << QUALIFIER_RANK_BITS) - 1));
+	}
+
+	private static boolean fits(Integer value, int bits) {
+		return value == null || (value >= 0 && value < (1 << bits));
+	}
+
+	private static int valueOf(Integer value) {
+		return (value != null) ? value : 0;
+	}
+
+	private Object writeReplace() {
+		return new VersionSerializationProxy(VersionSerializationProxy.VERSION, this);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Serialization proxy required");
 	}
 
 	@Override
@@ -205,34 +277,31 @@ public final class Version implements Serializable, Comparable<Version> {
 	}
 
 	/**
-	 * A version qualifier.
+	 * An immutable version qualifier.
 	 */
 	public static class Qualifier implements Serializable {
 
+		private final String qualifier;
+
+		private final Integer version;
+
 		public Qualifier(String qualifier) {
-			this.qualifier = qualifier;
+			this(qualifier, null);
 		}
 
-		private String qualifier;
-
-		private Integer version;
+		public Qualifier(String qualifier, Integer version) {
+			this.qualifier = qualifier;
+			this.version = version;
+		}
 
 		public String getQualifier() {
 			return this.qualifier;
 		}
 
-		public void setQualifier(String qualifier) {
-			this.qualifier = qualifier;
-		}
-
 		public Integer getVersion() {
 			return this.version;
 		}
 
-		public void setVersion(Integer version) {
-			this.version = version;
-		}
-
 		@Override
 		public boolean equals(Object obj) {
 			if (this == obj) {
@@ -292,41 +361,57 @@ public final class Version implements Serializable, Comparable<Version> {
 		static final String MILESTONE = "M";
 		static final String RC = "RC";
 
-		static final List<String> KNOWN_QUALIFIERS = Arrays.asList(MILESTONE, RC,
-				SNAPSHOT, RELEASE);
+		static final int UNKNOWN_RANK = 0;
 
 		@Override
 		public int compare(Qualifier o1, Qualifier o2) {
-			Qualifier first = (o1 != null) ? o1 : new Qualifier(RELEASE);
-			Qualifier second = (o2 != null) ? o2 : new Qualifier(RELEASE);
-
-			int qualifier = compareQualifier(first, second);
-			return (qualifier != 0) ? qualifier : compareQualifierVersion(first, second);
-		}
-
-		private static int compareQualifierVersion(Qualifier first, Qualifier second) {
-			Integer firstVersion = (first.getVersion() != null) ? first.getVersion() : 0;
-			Integer secondVersion = (second.getVersion() != null) ? second.getVersion()
-					: 0;
-			return firstVersion.compareTo(secondVersion);
+			int firstRank = getQualifierRank(o1);
+			int secondRank = getQualifierRank(o2);
+			// Unknown qualifier, alphabetic ordering
+			if (firstRank == UNKNOWN_RANK && secondRank == UNKNOWN_RANK) {
+				int qualifier = o1.qualifier.compareTo(o2.qualifier);
+				if (qualifier != 0) {
+					return qualifier;
+				}
+			}
+			else if (firstRank != secondRank) {
+				return Integer.compare(firstRank, secondRank);
+			}
+			return Integer.compare(getQualifierVersion(o1), getQualifierVersion(o2));
 		}
 
-		private static int compareQualifier(Qualifier first, Qualifier second) {
-			Integer firstIndex = getQualifierIndex(first.qualifier);
-			Integer secondIndex = getQualifierIndex(second.qualifier);
-
-			// Unknown qualifier, alphabetic ordering
-			if (firstIndex == -1 && secondIndex == -1) {
-				return first.qualifier.compareTo(second.qualifier);
+		/**
+		 * Return the rank of the specified qualifier: known qualifiers are ranked from
+		 * {@code 1} to {@code 4} and unknown qualifiers are ranked {@link #UNKNOWN_RANK}.
+		 * A {@code null} qualifier is a release.
+		 * @param qualifier the qualifier or {@code null}
+		 * @return the rank of the qualifier
+		 */
+		static int getQualifierRank(Qualifier qualifier) {
+			if (qualifier == null) {
+				return 4;
+			}
+			String id = qualifier.qualifier;
+			if (!StringUtils.hasText(id)) {
+				return 1;
 			}
-			else {
-				return firstIndex.compareTo(secondIndex);
+			switch (id) {
+			case MILESTONE:
+				return 1;
+			case RC:
+				return 2;
+			case SNAPSHOT:
+				return 3;
+			case RELEASE:
+				return 4;
+			default:
+				return UNKNOWN_RANK;
 			}
 		}
 
-		private static int getQualifierIndex(String qualifier) {
-			return (StringUtils.hasText(qualifier) ? KNOWN_QUALIFIERS.indexOf(qualifier)
-					: 0);
+		private static int getQualifierVersion(Qualifier qualifier) {
+			return (qualifier != null && qualifier.getVersion() != null)
+					? qualifier.getVersion() : 0;
 		}
 
 	}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+import io.spring.initializr.generator.version.Version.Qualifier;
+
+/**
+ * A compact binary codec for {@link Version}, {@link VersionRange},
+ * {@link VersionProperty} and {@link VersionReference}. Numbers are written as variable
+ * length integers and well-known qualifiers as an ordinal so that a typical version such
+ * as {@code 2.1.0.RELEASE} takes 4 bytes. Reading what was written returns an equal
+ * instance.
+ * <p>
+ * This is suitable to persist caches or to exchange resolved metadata, see also the
+ * {@link java.io.Externalizable} form used by Java serialization.
+ *
+ * @author Initializr Team
+ */
+public final class VersionCodec {
+
+	private static final int MAJOR = 1;
+
+	private static final int MINOR = 1 << 1;
+
+	private static final int PATCH = 1 << 2;
+
+	private static final int QUALIFIER_VERSION = 1 << 3;
+
+	private static final int QUALIFIER_SHIFT = 4;
+
+	private static final int NO_QUALIFIER = 0;
+
+	private static final int NULL_QUALIFIER = 1;
+
+	private static final int CUSTOM_QUALIFIER = 2;
+
+	private static final String[] KNOWN_QUALIFIERS = { "M", "RC", "BUILD-SNAPSHOT",
+			"RELEASE" };
+
+	private static final int KNOWN_QUALIFIER_OFFSET = 3;
+
+	private static final Qualifier[] SHARED_QUALIFIERS = { new Qualifier("M"),
+			new Qualifier("RC"), new Qualifier("BUILD-SNAPSHOT"),
+			new Qualifier("RELEASE") };
+
+	private static final int LOWER = 1;
+
+	private static final int LOWER_INCLUSIVE = 1 << 1;
+
+	private static final int HIGHER = 1 << 2;
+
+	private static final int HIGHER_INCLUSIVE = 1 << 3;
+
+	private static final int REFERENCE_TO_NULL = 0;
+
+	private static final int REFERENCE_TO_VALUE = 1;
+
+	private static final int REFERENCE_TO_PROPERTY = 2;
+
+	private VersionCodec() {
+	}
+
+	/**
+	 * Write the specified {@link Version}.
+	 * @param out the output to write to
+	 * @param version the version to write
+	 * @throws IOException if the version could not be written
+	 */
+	public static void writeVersion(DataOutput out, Version version) throws IOException {
+		Qualifier qualifier = version.getQualifier();
+		int qualifierKind = qualifierKind(qualifier);
+		int header = (qualifierKind << QUALIFIER_SHIFT);
+		header |= (version.getMajor() != null) ? MAJOR : 0;
+		header |= (version.getMinor() != null) ? MINOR : 0;
+		header |= (version.getPatch() != null) ? PATCH : 0;
+		header |= (qualifier != null && qualifier.getVersion() != null)
+				? QUALIFIER_VERSION : 0;
+		out.writeByte(header);
+		writeNumber(out, version.getMajor());
+		writeNumber(out, version.getMinor());
+		writeNumber(out, version.getPatch());
+		if (qualifierKind == CUSTOM_QUALIFIER) {
+			out.writeUTF(qualifier.getQualifier());
+		}
+		if ((header & QUALIFIER_VERSION) != 0) {
+			writeNumber(out, qualifier.getVersion());
+		}
+	}
+
+	/**
+	 * Read a {@link Version} written by {@link #writeVersion(DataOutput, Version)}.
+	 * @param in the input to read from
+	 * @return the version
+	 * @throws IOException if the version could not be read
+	 */
+	public static Version readVersion(DataInput in) throws IOException {
+		int header = in.readUnsignedByte();
+		Integer major = ((header & MAJOR) != 0) ? readVarInt(in) : null;
+		Integer minor = ((header & MINOR) != 0) ? readVarInt(in) : null;
+		Integer patch = ((header & PATCH) != 0) ? readVarInt(in) : null;
+		int qualifierKind = header >>> QUALIFIER_SHIFT;
+		String qualifierId = null;
+		if (qualifierKind == CUSTOM_QUALIFIER) {
+			qualifierId = in.readUTF();
+		}
+		else if (qualifierKind >= KNOWN_QUALIFIER_OFFSET) {
+			int ordinal = qualifierKind - KNOWN_QUALIFIER_OFFSET;
+			if (ordinal >= KNOWN_QUALIFIERS.length) {
+				throw new StreamCorruptedException(
+						"Unknown qualifier ordinal " + ordinal);
+			}
+			qualifierId = KNOWN_QUALIFIERS[ordinal];
+		}
+		Integer qualifierVersion = ((header & QUALIFIER_VERSION) != 0) ? readVarInt(in)
+				: null;
+		return new Version(major, minor, patch,
+				qualifier(qualifierKind, qualifierId, qualifierVersion));
+	}
+
+	/**
+	 * Write the specified {@link VersionRange}.
+	 * @param out the output to write to
+	 * @param range the range to write
+	 * @throws IOException if the range could not be written
+	 */
+	public static void writeVersionRange(DataOutput out, VersionRange range)
+			throws IOException {
+		int header = 0;
+		header |= (range.getLowerVersion() != null) ? LOWER : 0;
+		header |= (range.isLowerInclusive()) ? LOWER_INCLUSIVE : 0;
+		header |= (range.getHigherVersion() != null) ? HIGHER : 0;
+		header |= (range.isHigherInclusive()) ? HIGHER_INCLUSIVE : 0;
+		out.writeByte(header);
+		if (range.getLowerVersion() != null) {
+			writeVersion(out, range.getLowerVersion());
+		}
+		if (range.getHigherVersion() != null) {
+			writeVersion(out, range.getHigherVersion());
+		}
+	}
+
+	/**
+	 * Read a {@link VersionRange} written by
+	 * {@link #writeVersionRange(DataOutput, VersionRange)}.
+	 * @param in the input to read from
+	 * @return the range
+	 * @throws IOException if the range could not be read
+	 */
+	public static VersionRange readVersionRange(DataInput in) throws IOException {
+		int header = in.readUnsignedByte();
+		Version lowerVersion = ((header & LOWER) != 0) ? readVersion(in) : null;
+		Version higherVersion = ((header & HIGHER) != 0) ? readVersion(in) : null;
+		return new VersionRange(lowerVersion, (header & LOWER_INCLUSIVE) != 0,
+				higherVersion, (header & HIGHER_INCLUSIVE) != 0);
+	}
+
+	/**
+	 * Write the specified {@link VersionProperty}.
+	 * @param out the output to write to
+	 * @param property the property to write
+	 * @throws IOException if the property could not be written
+	 */
+	public static void writeVersionProperty(DataOutput out, VersionProperty property)
+			throws IOException {
+		out.writeBoolean(property.isInternal());
+		out.writeUTF(property.toStandardFormat());
+	}
+
+	/**
+	 * Read a {@link VersionProperty} written by
+	 * {@link #writeVersionProperty(DataOutput, VersionProperty)}.
+	 * @param in the input to read from
+	 * @return the canonical instance of the property
+	 * @throws IOException if the property could not be read
+	 */
+	public static VersionProperty readVersionProperty(DataInput in) throws IOException {
+		boolean internal = in.readBoolean();
+		return VersionProperty.of(in.readUTF(), internal);
+	}
+
+	/**
+	 * Write the specified {@link VersionReference}.
+	 * @param out the output to write to
+	 * @param reference the reference to write
+	 * @throws IOException if the reference could not be written
+	 */
+	public static void writeVersionReference(DataOutput out, VersionReference reference)
+			throws IOException {
+		if (reference.isProperty()) {
+			out.writeByte(REFERENCE_TO_PROPERTY);
+			writeVersionProperty(out, reference.getProperty());
+		}
+		else if (reference.getValue() != null) {
+			out.writeByte(REFERENCE_TO_VALUE);
+			out.writeUTF(reference.getValue());
+		}
+		else {
+			out.writeByte(REFERENCE_TO_NULL);
+		}
+	}
+
+	/**
+	 * Read a {@link VersionReference} written by
+	 * {@link #writeVersionReference(DataOutput, VersionReference)}.
+	 * @param in the input to read from
+	 * @return the reference
+	 * @throws IOException if the reference could not be read
+	 */
+	public static VersionReference readVersionReference(DataInput in) throws IOException {
+		int kind = in.readUnsignedByte();
+		switch (kind) {
+		case REFERENCE_TO_PROPERTY:
+			return VersionReference.ofProperty(readVersionProperty(in));
+		case REFERENCE_TO_VALUE:
+			return VersionReference.ofValue(in.readUTF());
+		case REFERENCE_TO_NULL:
+			return VersionReference.ofValue(null);
+		default:
+			throw new StreamCorruptedException("Unknown version reference kind " + kind);
+		}
+	}
+
+	private static int qualifierKind(Qualifier qualifier) {
+		if (qualifier == null) {
+			return NO_QUALIFIER;
+		}
+		if (qualifier.getQualifier() == null) {
+			return NULL_QUALIFIER;
+		}
+		for (int i = 0; i < KNOWN_QUALIFIERS.length; i++) {
+			if (KNOWN_QUALIFIERS[i].equals(qualifier.getQualifier())) {
+				return KNOWN_QUALIFIER_OFFSET + i;
+			}
+		}
+		return CUSTOM_QUALIFIER;
+	}
+
+	private static Qualifier qualifier(int kind, String id, Integer version) {
+		if (kind == NO_QUALIFIER) {
+			return null;
+		}
+		if (kind >= KNOWN_QUALIFIER_OFFSET && version == null) {
+			// Qualifiers are immutable so the ones without version can be shared
+			return SHARED_QUALIFIERS[kind - KNOWN_QUALIFIER_OFFSET];
+		}
+		return new Qualifier(id, version);
+	}
+
+	private static void writeNumber(DataOutput out, Integer value) throws IOException {
+		if (value != null) {
+			// Zig-zag encoding keeps small negative numbers short
+			int zigZag = (value << 1) ^ (value >> 31);
+			while ((zigZag & ~0x7F) != 0) {
+				out.writeByte((zigZag & 0x7F) | 0x80);
+				zigZag >>>= 7;
+			}
+			out.writeByte(zigZag);
+		}
+	}
+
+	private static int readVarInt(DataInput in) throws IOException {
+		int zigZag = 0;
+		for (int shift = 0; shift < 35; shift += 7) {
+			int b = in.readUnsignedByte();
+			zigZag |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return (zigZag >>> 1) ^ -(zigZag & 1);
+			}
+		}
+		throw new StreamCorruptedException("Malformed variable length integer");
+	}
+
+}
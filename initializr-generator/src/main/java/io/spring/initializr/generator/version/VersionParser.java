@@ -17,14 +17,14 @@
 package io.spring.initializr.generator.version;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import io.spring.initializr.generator.version.Version.Qualifier;
 
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -36,28 +36,48 @@ import org.springframework.util.StringUtils;
  * {@code 1.3.7.RELEASE}. Note that the qualifier is important here:
  * {@code 1.3.8.BUILD-SNAPSHOT} would be parsed as {@code 1.3.999.BUILD-SNAPSHOT} as the
  * parser doesn't know the latest {@code BUILD-SNAPSHOT} in the {@code 1.3.x} release
- * line.
+ * line. The latest versions are indexed when the parser is created so that resolving
+ * {@code x} is a lookup.
+ * <p>
+ * A parser can optionally intern what it parses: the same text then always gives the same
+ * {@link Version} or {@link VersionRange} instance, which is looked up rather than parsed
+ * again. The number of interned instances is bounded: once the limit is reached, new
+ * texts are parsed without being interned.
  *
  * @author Stephane Nicoll
  */
 public class VersionParser {
 
 	/**
-	 * The default {@link VersionParser}.
+	 * The default {@link VersionParser}. Interns the versions and ranges it parses.
 	 */
-	public static final VersionParser DEFAULT = new VersionParser(
-			Collections.emptyList());
+	public static final VersionParser DEFAULT = new VersionParser(Collections.emptyList(),
+			512);
+
+	private static final Version AMBIGUOUS = new Version(-1, -1, -1, null);
 
-	private static final Pattern VERSION_REGEX = Pattern
-			.compile("^(\\d+)\\.(\\d+|x)\\.(\\d+|x)(?:\\.([^0-9]+)(\\d+)?)?$");
+	private final Map<LatestVersionKey, Version> latestVersions;
 
-	private static final Pattern RANGE_REGEX = Pattern
-			.compile("(\\(|\\[)(.*),(.*)(\\)|\\])");
+	private final InternCache<Version> versions;
 
-	private final List<Version> latestVersions;
+	private final InternCache<VersionRange> ranges;
 
 	public VersionParser(List<Version> latestVersions) {
-		this.latestVersions = latestVersions;
+		this(latestVersions, 0);
+	}
+
+	/**
+	 * Create a parser that interns at most {@code cacheSize} versions and at most
+	 * {@code cacheSize} ranges, keyed by their text.
+	 * @param latestVersions the latest versions to use to resolve {@code x}
+	 * @param cacheSize the maximum number of interned instances, or {@code 0} to not
+	 * intern anything
+	 */
+	public VersionParser(List<Version> latestVersions, int cacheSize) {
+		Assert.isTrue(cacheSize >= 0, "Cache size must not be negative");
+		this.latestVersions = indexLatestVersions(latestVersions);
+		this.versions = (cacheSize > 0) ? new InternCache<>(cacheSize) : null;
+		this.ranges = (cacheSize > 0) ? new InternCache<>(cacheSize) : null;
 	}
 
 	/**
@@ -70,39 +90,10 @@ public class VersionParser {
 	 */
 	public Version parse(String text) {
 		Assert.notNull(text, "Text must not be null");
-		Matcher matcher = VERSION_REGEX.matcher(text.trim());
-		if (!matcher.matches()) {
-			throw new InvalidVersionException(
-					"Could not determine version based on '" + text + "': version format "
-							+ "is Minor.Major.Patch.Qualifier " + "(e.g. 1.0.5.RELEASE)");
-		}
-		Integer major = Integer.valueOf(matcher.group(1));
-		String minor = matcher.group(2);
-		String patch = matcher.group(3);
-		Qualifier qualifier = null;
-		String qualifierId = matcher.group(4);
-		if (StringUtils.hasText(qualifierId)) {
-			qualifier = new Version.Qualifier(qualifierId);
-			String o = matcher.group(5);
-			if (o != null) {
-				qualifier.setVersion(Integer.valueOf(o));
-			}
-		}
-		if ("x".equals(minor) || "x".equals(patch)) {
-			Integer minorInt = ("x".equals(minor) ? null : Integer.parseInt(minor));
-			Version latest = findLatestVersion(major, minorInt, qualifier);
-			if (latest == null) {
-				return new Version(major,
-						("x".equals(minor) ? 999 : Integer.parseInt(minor)),
-						("x".equals(patch) ? 999 : Integer.parseInt(patch)), qualifier);
-			}
-			return new Version(major, latest.getMinor(), latest.getPatch(),
-					latest.getQualifier());
-		}
-		else {
-			return new Version(major, Integer.parseInt(minor), Integer.parseInt(patch),
-					qualifier);
+		if (this.versions != null) {
+			return this.versions.get(text, (key) -> parse(key, 0, key.length()));
 		}
+		return parse(text, 0, text.length());
 	}
 
 	/**
@@ -131,35 +122,291 @@ public class VersionParser {
 	 */
 	public VersionRange parseRange(String text) {
 		Assert.notNull(text, "Text must not be null");
-		Matcher matcher = RANGE_REGEX.matcher(text.trim());
-		if (!matcher.matches()) {
+		if (this.ranges != null) {
+			return this.ranges.get(text, this::doParseRange);
+		}
+		return doParseRange(text);
+	}
+
+	private VersionRange doParseRange(String text) {
+		int start = trimStart(text, 0, text.length());
+		int end = trimEnd(text, start, text.length());
+		int separator = findRangeSeparator(text, start, end);
+		if (separator == -1) {
 			// Try to read it as simple string
 			Version version = parse(text);
 			return new VersionRange(version, true, null, true);
 		}
-		boolean lowerInclusive = matcher.group(1).equals("[");
-		Version lowerVersion = parse(matcher.group(2));
-		Version higherVersion = parse(matcher.group(3));
-		boolean higherInclusive = matcher.group(4).equals("]");
+		boolean lowerInclusive = text.charAt(start) == '[';
+		Version lowerVersion = parseBound(text, start + 1, separator);
+		Version higherVersion = parseBound(text, separator + 1, end - 1);
+		boolean higherInclusive = text.charAt(end - 1) == ']';
 		return new VersionRange(lowerVersion, lowerInclusive, higherVersion,
 				higherInclusive);
 	}
 
-	private Version findLatestVersion(Integer major, Integer minor,
+	private Version parseBound(String text, int from, int to) {
+		if (this.versions != null) {
+			return parse(text.substring(from, to));
+		}
+		return parse(text, from, to);
+	}
+
+	/**
+	 * Parse the version defined by the specified region of {@code text}, ignoring leading
+	 * and trailing whitespace. The grammar is
+	 * {@code MAJOR.(MINOR|x).(PATCH|x)[.QUALIFIER[VERSION]]} where the qualifier does not
+	 * contain any digit and its optional version only has digits.
+	 * @param text the text holding the version
+	 * @param from the index of the first character of the region
+	 * @param to the index after the last character of the region
+	 * @return the version
+	 */
+	private Version parse(String text, int from, int to) {
+		int start = trimStart(text, from, to);
+		int end = trimEnd(text, start, to);
+		int majorEnd = scanDigits(text, start, end);
+		if (majorEnd == start || !isChar(text, majorEnd, end, '.')) {
+			throw invalidVersion(text, from, to);
+		}
+		int minorStart = majorEnd + 1;
+		int minorEnd = scanNumberOrWildcard(text, minorStart, end);
+		if (minorEnd == minorStart || !isChar(text, minorEnd, end, '.')) {
+			throw invalidVersion(text, from, to);
+		}
+		int patchStart = minorEnd + 1;
+		int patchEnd = scanNumberOrWildcard(text, patchStart, end);
+		if (patchEnd == patchStart) {
+			throw invalidVersion(text, from, to);
+		}
+		Qualifier qualifier = null;
+		if (patchEnd != end) {
+			int qualifierStart = patchEnd + 1;
+			if (text.charAt(patchEnd) != '.') {
+				throw invalidVersion(text, from, to);
+			}
+			int qualifierEnd = scanNonDigits(text, qualifierStart, end);
+			if (qualifierEnd == qualifierStart
+					|| scanDigits(text, qualifierEnd, end) != end) {
+				throw invalidVersion(text, from, to);
+			}
+			String qualifierId = text.substring(qualifierStart, qualifierEnd);
+			if (StringUtils.hasText(qualifierId)) {
+				qualifier = new Version.Qualifier(qualifierId,
+						(qualifierEnd != end) ? parseInt(text, qualifierEnd, end) : null);
+			}
+		}
+		int major = parseInt(text, start, majorEnd);
+		boolean minorWildcard = isWildcard(text, minorStart, minorEnd);
+		boolean patchWildcard = isWildcard(text, patchStart, patchEnd);
+		if (minorWildcard || patchWildcard) {
+			Integer minor = (minorWildcard) ? null : parseInt(text, minorStart, minorEnd);
+			Version latest = findLatestVersion(major, minor, qualifier);
+			if (latest == null) {
+				return new Version(major, (minorWildcard) ? 999 : minor,
+						(patchWildcard) ? 999 : parseInt(text, patchStart, patchEnd),
+						qualifier);
+			}
+			return new Version(major, latest.getMinor(), latest.getPatch(),
+					latest.getQualifier());
+		}
+		return new Version(major, parseInt(text, minorStart, minorEnd),
+				parseInt(text, patchStart, patchEnd), qualifier);
+	}
+
+	/**
+	 * Return the index of the comma that separates the bounds of the range defined by the
+	 * specified region, or {@code -1} if that region is not a range. The region must
+	 * start with {@code [} or {@code (} and end with {@code ]} or {@code )}. If several
+	 * commas are present, the last one is used.
+	 * @param text the text holding the range
+	 * @param start the index of the first character of the range
+	 * @param end the index after the last character of the range
+	 * @return the index of the separator or {@code -1}
+	 */
+	private static int findRangeSeparator(String text, int start, int end) {
+		if (end - start < 3) {
+			return -1;
+		}
+		char first = text.charAt(start);
+		char last = text.charAt(end - 1);
+		if ((first != '[' && first != '(') || (last != ']' && last != ')')) {
+			return -1;
+		}
+		int separator = -1;
+		for (int i = end - 2; i > start; i--) {
+			char c = text.charAt(i);
+			if (isLineTerminator(c)) {
+				return -1;
+			}
+			if (separator == -1 && c == ',') {
+				separator = i;
+			}
+		}
+		return separator;
+	}
+
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private static int trimStart(String text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private static int trimEnd(String text, int start, int end) {
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+
+	private static boolean isChar(String text, int index, int end, char c) {
+		return index < end && text.charAt(index) == c;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWildcard(String text, int start, int end) {
+		return end == start + 1 && text.charAt(start) == 'x';
+	}
+
+	private static int scanDigits(String text, int start, int end) {
+		int index = start;
+		while (index < end && isDigit(text.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static int scanNonDigits(String text, int start, int end) {
+		int index = start;
+		while (index < end && !isDigit(text.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static int scanNumberOrWildcard(String text, int start, int end) {
+		if (isChar(text, start, end, 'x')) {
+			return start + 1;
+		}
+		return scanDigits(text, start, end);
+	}
+
+	private static int parseInt(String text, int start, int end) {
+		if (end - start > 9) {
+			// Let Integer deal with overflow
+			return Integer.parseInt(text.substring(start, end));
+		}
+		int value = 0;
+		for (int i = start; i < end; i++) {
+			value = value * 10 + (text.charAt(i) - '0');
+		}
+		return value;
+	}
+
+	private static InvalidVersionException invalidVersion(String text, int from, int to) {
+		return new InvalidVersionException("Could not determine version based on '"
+				+ text.substring(from, to) + "': version format "
+				+ "is Minor.Major.Patch.Qualifier " + "(e.g. 1.0.5.RELEASE)");
+	}
+
+	/**
+	 * Return the only latest version that has the specified major, minor and qualifier,
+	 * or {@code null} if there is no such version or if there are several.
+	 * @param major the major of the version
+	 * @param minor the minor of the version or {@code null} to match any minor
+	 * @param qualifier the qualifier of the version or {@code null} to match any
+	 * qualifier
+	 * @return the only latest version that matches or {@code null}
+	 */
+	private Version findLatestVersion(int major, Integer minor,
 			Version.Qualifier qualifier) {
-		List<Version> matches = this.latestVersions.stream().filter((it) -> {
-			if (major != null && !major.equals(it.getMajor())) {
-				return false;
+		Version latest = this.latestVersions
+				.get(new LatestVersionKey(major, minor, qualifier));
+		return (latest != AMBIGUOUS) ? latest : null;
+	}
+
+	private static Map<LatestVersionKey, Version> indexLatestVersions(
+			List<Version> latestVersions) {
+		if (latestVersions.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<LatestVersionKey, Version> index = new HashMap<>();
+		for (Version version : latestVersions) {
+			Integer major = version.getMajor();
+			if (major == null) {
+				continue;
 			}
-			if (minor != null && !minor.equals(it.getMinor())) {
-				return false;
+			Integer minor = version.getMinor();
+			Qualifier qualifier = version.getQualifier();
+			indexLatestVersion(index, new LatestVersionKey(major, null, null), version);
+			if (minor != null) {
+				indexLatestVersion(index, new LatestVersionKey(major, minor, null),
+						version);
+			}
+			if (qualifier != null) {
+				indexLatestVersion(index, new LatestVersionKey(major, null, qualifier),
+						version);
+			}
+			if (minor != null && qualifier != null) {
+				indexLatestVersion(index, new LatestVersionKey(major, minor, qualifier),
+						version);
 			}
-			if (qualifier != null && !qualifier.equals(it.getQualifier())) {
+		}
+		return index;
+	}
+
+	private static void indexLatestVersion(Map<LatestVersionKey, Version> index,
+			LatestVersionKey key, Version version) {
+		index.merge(key, version, (existing, candidate) -> AMBIGUOUS);
+	}
+
+	/**
+	 * The key of a latest version: a {@code null} minor or qualifier matches any value.
+	 */
+	private static final class LatestVersionKey {
+
+		private final int major;
+
+		private final Integer minor;
+
+		private final Qualifier qualifier;
+
+		LatestVersionKey(int major, Integer minor, Qualifier qualifier) {
+			this.major = major;
+			this.minor = minor;
+			this.qualifier = qualifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj == null || getClass() != obj.getClass()) {
 				return false;
 			}
-			return true;
-		}).collect(Collectors.toList());
-		return (matches.size() != 1) ? null : matches.get(0);
+			LatestVersionKey other = (LatestVersionKey) obj;
+			return this.major == other.major
+					&& ObjectUtils.nullSafeEquals(this.minor, other.minor)
+					&& ObjectUtils.nullSafeEquals(this.qualifier, other.qualifier);
+		}
+
+		@Override
+		public int hashCode() {
+			int result = this.major;
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.minor);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.qualifier);
+			return result;
+		}
+
 	}
 
 }
@@ -16,12 +16,11 @@
 
 package io.spring.initializr.generator.version;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
-
-import org.springframework.util.StringUtils;
 
 /**
  * Represents a valid property for a version. A property must be lower case and can define
@@ -34,24 +33,38 @@ public final class VersionProperty implements Serializable, Comparable<VersionPr
 
 	private static final List<Character> SUPPORTED_CHARS = Arrays.asList('.', '-');
 
+	private static final InternCache<VersionProperty> internalProperties = new InternCache<>(
+			1024);
+
+	private static final InternCache<VersionProperty> properties = new InternCache<>(
+			1024);
+
 	private final String property;
 
 	private final boolean internal;
 
+	private final transient String camelCaseFormat;
+
+	private final transient int hashCode;
+
 	private VersionProperty(String property, boolean internal) {
 		this.property = validateFormat(property);
 		this.internal = internal;
+		this.camelCaseFormat = camelCase(property);
+		this.hashCode = 31 * (31 + property.hashCode()) + Boolean.hashCode(internal);
 	}
 
 	/**
-	 * Create a {@link VersionProperty}.
+	 * Create a {@link VersionProperty}. Returns the canonical instance of the property so
+	 * that its formats are only computed once.
 	 * @param property the name of the property
 	 * @param internal whether the property is internal and can be tuned according to the
 	 * build system
 	 * @return a version property
 	 */
 	public static VersionProperty of(String property, boolean internal) {
-		return new VersionProperty(property, internal);
+		return (internal ? internalProperties : properties).get(property,
+				(name) -> new VersionProperty(name, internal));
 	}
 
 	/**
@@ -77,16 +90,7 @@ public final class VersionProperty implements Serializable, Comparable<VersionPr
 	 * @return the property in camel case format
 	 */
 	public String toCamelCaseFormat() {
-		String[] tokens = this.property.split("\\-|\\.");
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < tokens.length; i++) {
-			String part = tokens[i];
-			if (i > 0) {
-				part = StringUtils.capitalize(part);
-			}
-			sb.append(part);
-		}
-		return sb.toString();
+		return this.camelCaseFormat;
 	}
 
 	public String toStandardFormat() {
@@ -107,6 +111,31 @@ public final class VersionProperty implements Serializable, Comparable<VersionPr
 		return property;
 	}
 
+	private static String camelCase(String property) {
+		StringBuilder sb = new StringBuilder(property.length());
+		boolean capitalize = false;
+		for (int i = 0; i < property.length(); i++) {
+			char c = property.charAt(i);
+			if (c == '.' || c == '-') {
+				capitalize = true;
+			}
+			else {
+				sb.append(capitalize ? Character.toUpperCase(c) : c);
+				capitalize = false;
+			}
+		}
+		return sb.toString();
+	}
+
+	private Object writeReplace() {
+		return new VersionSerializationProxy(VersionSerializationProxy.VERSION_PROPERTY,
+				this);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Serialization proxy required");
+	}
+
 	@Override
 	public int compareTo(VersionProperty o) {
 		return this.property.compareTo(o.property);
@@ -126,7 +155,7 @@ public final class VersionProperty implements Serializable, Comparable<VersionPr
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.property, this.internal);
+		return this.hashCode;
 	}
 
 	@Override
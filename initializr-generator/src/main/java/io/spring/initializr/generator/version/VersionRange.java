@@ -16,6 +16,10 @@
 
 package io.spring.initializr.generator.version;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
 import org.springframework.util.Assert;
 
 /**
@@ -34,7 +38,8 @@ import org.springframework.util.Assert;
  *
  * @author Stephane Nicoll
  */
-public class VersionRange {
+@SuppressWarnings("serial")
+public class VersionRange implements Serializable {
 
 	private final Version lowerVersion;
 
@@ -121,6 +126,15 @@ public class VersionRange {
 		return sb.toString();
 	}
 
+	private Object writeReplace() {
+		return new VersionSerializationProxy(VersionSerializationProxy.VERSION_RANGE,
+				this);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Serialization proxy required");
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
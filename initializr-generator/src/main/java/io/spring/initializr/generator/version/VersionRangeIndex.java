@@ -0,0 +1,148 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.version;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * An immutable index of items associated with a {@link VersionRange} that finds the items
+ * whose range matches a given {@link Version} in {@code O(log n + k)}.
+ * <p>
+ * The distinct bounds of all ranges split the versions into elementary segments: each
+ * bound on its own and the open intervals between two consecutive bounds. A range covers
+ * a contiguous run of segments, honouring whether its bounds are inclusive, so the
+ * matching items of each segment are computed upfront and a lookup is a binary search of
+ * the bounds. An item without a range matches any version. Matching items are returned in
+ * the order in which they were indexed.
+ *
+ * @param <T> the type of the indexed items
+ * @author Initializr Team
+ */
+public final class VersionRangeIndex<T> {
+
+	private final Version[] bounds;
+
+	private final List<List<T>> segments;
+
+	private VersionRangeIndex(Version[] bounds, List<List<T>> segments) {
+		this.bounds = bounds;
+		this.segments = segments;
+	}
+
+	/**
+	 * Create an index of the specified items.
+	 * @param items the items to index
+	 * @param range a function that returns the range of an item, or {@code null} if the
+	 * item matches any version
+	 * @param <T> the type of the items
+	 * @return an index of the items
+	 */
+	public static <T> VersionRangeIndex<T> of(Collection<? extends T> items,
+			Function<? super T, VersionRange> range) {
+		Assert.notNull(items, "Items must not be null");
+		Assert.notNull(range, "Range function must not be null");
+		Version[] bounds = collectBounds(items, range);
+		int segmentCount = bounds.length * 2 + 1;
+		List<List<T>> segments = new ArrayList<>(segmentCount);
+		for (int i = 0; i < segmentCount; i++) {
+			segments.add(new ArrayList<>());
+		}
+		for (T item : items) {
+			VersionRange itemRange = range.apply(item);
+			int first = (itemRange != null) ? firstSegment(bounds, itemRange) : 0;
+			int last = (itemRange != null) ? lastSegment(bounds, itemRange)
+					: segmentCount - 1;
+			for (int i = first; i <= last; i++) {
+				segments.get(i).add(item);
+			}
+		}
+		return new VersionRangeIndex<>(bounds, share(segments));
+	}
+
+	/**
+	 * Return the items whose range matches the specified {@link Version}.
+	 * @param version the version to match
+	 * @return an immutable list of the matching items, possibly empty
+	 */
+	public List<T> match(Version version) {
+		Assert.notNull(version, "Version must not be null");
+		int index = Arrays.binarySearch(this.bounds, version);
+		return this.segments.get((index >= 0) ? index * 2 + 1 : -(index + 1) * 2);
+	}
+
+	private static <T> Version[] collectBounds(Collection<? extends T> items,
+			Function<? super T, VersionRange> range) {
+		List<Version> bounds = new ArrayList<>();
+		for (T item : items) {
+			VersionRange itemRange = range.apply(item);
+			if (itemRange != null) {
+				Assert.notNull(itemRange.getLowerVersion(),
+						"Lower version must not be null");
+				bounds.add(itemRange.getLowerVersion());
+				if (itemRange.getHigherVersion() != null) {
+					bounds.add(itemRange.getHigherVersion());
+				}
+			}
+		}
+		Collections.sort(bounds);
+		// Versions that compare equal, such as 2.1.0 and 2.1.0.RELEASE, are the same
+		// bound
+		List<Version> distinct = new ArrayList<>(bounds.size());
+		for (Version bound : bounds) {
+			if (distinct.isEmpty()
+					|| distinct.get(distinct.size() - 1).compareTo(bound) != 0) {
+				distinct.add(bound);
+			}
+		}
+		return distinct.toArray(new Version[0]);
+	}
+
+	private static int firstSegment(Version[] bounds, VersionRange range) {
+		int index = Arrays.binarySearch(bounds, range.getLowerVersion());
+		return (range.isLowerInclusive()) ? index * 2 + 1 : index * 2 + 2;
+	}
+
+	private static int lastSegment(Version[] bounds, VersionRange range) {
+		if (range.getHigherVersion() == null) {
+			return bounds.length * 2;
+		}
+		int index = Arrays.binarySearch(bounds, range.getHigherVersion());
+		return (range.isHigherInclusive()) ? index * 2 + 1 : index * 2;
+	}
+
+	private static <T> List<List<T>> share(List<List<T>> segments) {
+		// Consecutive segments with the same items share the same immutable list
+		List<List<T>> shared = new ArrayList<>(segments.size());
+		List<T> previous = null;
+		for (List<T> segment : segments) {
+			if (previous == null || !previous.equals(segment)) {
+				previous = (segment.isEmpty()) ? Collections.emptyList()
+						: Collections.unmodifiableList(segment);
+			}
+			shared.add(previous);
+		}
+		return shared;
+	}
+
+}
@@ -16,6 +16,9 @@
 
 package io.spring.initializr.generator.version;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.Objects;
 
 /**
@@ -23,15 +26,21 @@ import java.util.Objects;
  *
  * @author Stephane Nicoll
  */
-public final class VersionReference {
+@SuppressWarnings("serial")
+public final class VersionReference implements Serializable {
+
+	private static final InternCache<VersionReference> values = new InternCache<>(1024);
 
 	private final VersionProperty property;
 
 	private final String value;
 
+	private final int hashCode;
+
 	private VersionReference(VersionProperty property, String value) {
 		this.property = property;
 		this.value = value;
+		this.hashCode = Objects.hash(property, value);
 	}
 
 	public static VersionReference ofProperty(VersionProperty property) {
@@ -42,8 +51,17 @@ public final class VersionReference {
 		return ofProperty(VersionProperty.of(internalProperty));
 	}
 
+	/**
+	 * Create a {@link VersionReference} to the specified version. Returns a shared
+	 * instance for versions that were requested before.
+	 * @param value the version
+	 * @return a version reference
+	 */
 	public static VersionReference ofValue(String value) {
-		return new VersionReference(null, value);
+		if (value == null) {
+			return new VersionReference(null, null);
+		}
+		return values.get(value, (version) -> new VersionReference(null, version));
 	}
 
 	/**
@@ -71,6 +89,15 @@ public final class VersionReference {
 		return this.value;
 	}
 
+	private Object writeReplace() {
+		return new VersionSerializationProxy(VersionSerializationProxy.VERSION_REFERENCE,
+				this);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Serialization proxy required");
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -86,7 +113,7 @@ public final class VersionReference {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.property, this.value);
+		return this.hashCode;
 	}
 
 	@Override
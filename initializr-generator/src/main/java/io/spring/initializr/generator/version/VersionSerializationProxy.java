@@ -0,0 +1,105 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.StreamCorruptedException;
+
+/**
+ * The {@link Externalizable} serialized form of {@link Version}, {@link VersionRange},
+ * {@link VersionProperty} and {@link VersionReference}, written using
+ * {@link VersionCodec}. Only public as required by Java serialization, this is not meant
+ * to be used directly.
+ *
+ * @author Initializr Team
+ */
+public final class VersionSerializationProxy implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	static final byte VERSION = 1;
+
+	static final byte VERSION_RANGE = 2;
+
+	static final byte VERSION_PROPERTY = 3;
+
+	static final byte VERSION_REFERENCE = 4;
+
+	private byte type;
+
+	private Object object;
+
+	/**
+	 * Constructor used by Java serialization.
+	 */
+	public VersionSerializationProxy() {
+	}
+
+	VersionSerializationProxy(byte type, Object object) {
+		this.type = type;
+		this.object = object;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeByte(this.type);
+		switch (this.type) {
+		case VERSION:
+			VersionCodec.writeVersion(out, (Version) this.object);
+			break;
+		case VERSION_RANGE:
+			VersionCodec.writeVersionRange(out, (VersionRange) this.object);
+			break;
+		case VERSION_PROPERTY:
+			VersionCodec.writeVersionProperty(out, (VersionProperty) this.object);
+			break;
+		case VERSION_REFERENCE:
+			VersionCodec.writeVersionReference(out, (VersionReference) this.object);
+			break;
+		default:
+			throw new IllegalStateException("Unknown type " + this.type);
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException {
+		this.type = in.readByte();
+		switch (this.type) {
+		case VERSION:
+			this.object = VersionCodec.readVersion(in);
+			break;
+		case VERSION_RANGE:
+			this.object = VersionCodec.readVersionRange(in);
+			break;
+		case VERSION_PROPERTY:
+			this.object = VersionCodec.readVersionProperty(in);
+			break;
+		case VERSION_REFERENCE:
+			this.object = VersionCodec.readVersionReference(in);
+			break;
+		default:
+			throw new StreamCorruptedException("Unknown type " + this.type);
+		}
+	}
+
+	private Object readResolve() {
+		return this.object;
+	}
+
+}
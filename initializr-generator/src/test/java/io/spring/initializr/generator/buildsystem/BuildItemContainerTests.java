@@ -16,13 +16,16 @@
 
 package io.spring.initializr.generator.buildsystem;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 /**
@@ -102,6 +105,75 @@ class BuildItemContainerTests {
 		assertThat(container.isEmpty()).isFalse();
 	}
 
+	@Test
+	void compactContainerKeepsRegistrationOrder() {
+		BuildItemContainer<String, String> container = createTestContainer(
+				new CompactItemMap<>());
+		for (int i = 0; i < 20; i++) {
+			container.add("id" + i, "value" + i);
+		}
+		container.add("id3", "override");
+		assertThat(container.remove("id5")).isTrue();
+		assertThat(container.size()).isEqualTo(19);
+		assertThat(container.get("id3")).isEqualTo("override");
+		assertThat(container.has("id5")).isFalse();
+		assertThat(container.ids()).hasSize(19)
+				.startsWith("id0", "id1", "id2", "id3", "id4", "id6").endsWith("id19");
+		assertThat(container.items()).contains("override").doesNotContain("value3");
+	}
+
+	@Test
+	void forEachIteratesInRegistrationOrder() {
+		BuildItemContainer<String, String> container = createTestContainer(
+				new CompactItemMap<>());
+		container.add("b", "value-b");
+		container.add("a", "value-a");
+		List<String> entries = new ArrayList<>();
+		container.forEach((id, item) -> entries.add(id + "=" + item));
+		assertThat(entries).containsExactly("b=value-b", "a=value-a");
+	}
+
+	@Test
+	void indexAccessWithCompactContainer() {
+		assertIndexAccess(createTestContainer(new CompactItemMap<>()));
+	}
+
+	@Test
+	void indexAccessWithCustomMap() {
+		assertIndexAccess(createTestContainer(new LinkedHashMap<>()));
+	}
+
+	@Test
+	void anyMatchWithCompactContainer() {
+		BuildItemContainer<String, String> container = createTestContainer(
+				new CompactItemMap<>());
+		container.add("test", "value");
+		assertThat(container.anyMatch((id, item) -> item.equals("value"))).isTrue();
+		assertThat(container.anyMatch((id, item) -> id.equals("value"))).isFalse();
+	}
+
+	@Test
+	void anyMatchWithCustomMap() {
+		BuildItemContainer<String, String> container = createTestContainer(
+				new LinkedHashMap<>());
+		container.add("test", "value");
+		assertThat(container.anyMatch((id, item) -> id.equals("test"))).isTrue();
+		assertThat(container.anyMatch((id, item) -> id.equals("value"))).isFalse();
+	}
+
+	private void assertIndexAccess(BuildItemContainer<String, String> container) {
+		container.add("b", "value-b");
+		container.add("a", "value-a");
+		assertThat(container.idAt(0)).isEqualTo("b");
+		assertThat(container.itemAt(0)).isEqualTo("value-b");
+		assertThat(container.idAt(1)).isEqualTo("a");
+		assertThat(container.itemAt(1)).isEqualTo("value-a");
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> container.itemAt(2));
+		assertThatExceptionOfType(IndexOutOfBoundsException.class)
+				.isThrownBy(() -> container.idAt(-1));
+	}
+
 	private BuildItemContainer<String, String> createTestContainer(
 			Map<String, String> content) {
 		return createTestContainer(content, (id) -> null);
@@ -77,6 +77,43 @@ class BuildTests {
 		assertThat(build.repositories().items()).containsExactly(repository);
 	}
 
+	@Test
+	void freezeBuildPreventsModifications() {
+		TestBuild build = new TestBuild(null);
+		build.setGroup("com.example");
+		build.dependencies().add("web", "org.springframework.boot",
+				"spring-boot-starter-web", DependencyScope.COMPILE);
+		build.freeze();
+		assertThat(build.isFrozen()).isTrue();
+		assertThat(build.getGroup()).isEqualTo("com.example");
+		Assertions.assertThatIllegalStateException()
+				.isThrownBy(() -> build.setArtifact("demo"))
+				.withMessage("Build is frozen");
+		Assertions.assertThatIllegalStateException()
+				.isThrownBy(() -> build.addExternalVersionProperty("test", "1.0.0"));
+		Assertions.assertThatIllegalStateException()
+				.isThrownBy(() -> build.dependencies().remove("web"))
+				.withMessage("Container is frozen");
+		Assertions.assertThatIllegalStateException().isThrownBy(
+				() -> build.boms().add("test", "com.example", "test-bom", null));
+		Assertions.assertThatIllegalStateException().isThrownBy(() -> build.repositories()
+				.add("test", "Test", "https://example.com/repo"));
+		Assertions.assertThatIllegalStateException().isThrownBy(() -> build
+				.pluginRepositories().add("test", "Test", "https://example.com/repo"));
+	}
+
+	@Test
+	void freezeBuildComputesDependenciesByScope() {
+		TestBuild build = new TestBuild(null);
+		build.dependencies().add("web", "org.springframework.boot",
+				"spring-boot-starter-web", DependencyScope.COMPILE);
+		build.freeze();
+		assertThat(build.dependencies().isFrozen()).isTrue();
+		assertThat(build.dependencies().byScope().get(DependencyScope.COMPILE))
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-web");
+	}
+
 	private static class TestBuild extends Build {
 
 		TestBuild(BuildItemResolver buildItemResolver) {
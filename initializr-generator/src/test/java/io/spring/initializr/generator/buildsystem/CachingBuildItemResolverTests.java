@@ -0,0 +1,115 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.buildsystem;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingBuildItemResolver}.
+ *
+ * @author Initializr Team
+ */
+class CachingBuildItemResolverTests {
+
+	private final BuildItemResolver delegate = mock(BuildItemResolver.class);
+
+	@Test
+	void resolveDependencyIsCached() {
+		Dependency dependency = mock(Dependency.class);
+		given(this.delegate.resolveDependency("test")).willReturn(dependency);
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate);
+		assertThat(resolver.resolveDependency("test")).isSameAs(dependency);
+		assertThat(resolver.resolveDependency("test")).isSameAs(dependency);
+		verify(this.delegate, times(1)).resolveDependency("test");
+	}
+
+	@Test
+	void resolveUnknownDependencyIsCached() {
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate);
+		assertThat(resolver.resolveDependency("unknown")).isNull();
+		assertThat(resolver.resolveDependency("unknown")).isNull();
+		verify(this.delegate, times(1)).resolveDependency("unknown");
+	}
+
+	@Test
+	void resolveBomIsCached() {
+		BillOfMaterials bom = mock(BillOfMaterials.class);
+		given(this.delegate.resolveBom("test")).willReturn(bom);
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate);
+		assertThat(resolver.resolveBom("test")).isSameAs(bom);
+		assertThat(resolver.resolveBom("test")).isSameAs(bom);
+		verify(this.delegate, times(1)).resolveBom("test");
+	}
+
+	@Test
+	void resolveRepositoryIsCached() {
+		MavenRepository repository = mock(MavenRepository.class);
+		given(this.delegate.resolveRepository("test")).willReturn(repository);
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate);
+		assertThat(resolver.resolveRepository("test")).isSameAs(repository);
+		assertThat(resolver.resolveRepository("test")).isSameAs(repository);
+		verify(this.delegate, times(1)).resolveRepository("test");
+	}
+
+	@Test
+	void invalidateClearsCache() {
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate);
+		resolver.resolveDependency("test");
+		resolver.invalidate();
+		resolver.resolveDependency("test");
+		verify(this.delegate, times(2)).resolveDependency("test");
+	}
+
+	@Test
+	void revisionChangeClearsCache() {
+		AtomicInteger revision = new AtomicInteger();
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(this.delegate,
+				revision::get, 10);
+		resolver.resolveDependency("test");
+		resolver.resolveDependency("test");
+		verify(this.delegate, times(1)).resolveDependency("test");
+		revision.incrementAndGet();
+		resolver.resolveDependency("test");
+		verify(this.delegate, times(2)).resolveDependency("test");
+	}
+
+	@Test
+	void cacheIsBounded() {
+		AtomicInteger resolutions = new AtomicInteger();
+		CachingBuildItemResolver resolver = new CachingBuildItemResolver(
+				new SimpleBuildItemResolver((id) -> {
+					resolutions.incrementAndGet();
+					return null;
+				}, (id) -> null, (id) -> null), () -> null, 2);
+		resolver.resolveDependency("one");
+		resolver.resolveDependency("two");
+		resolver.resolveDependency("three");
+		assertThat(resolutions).hasValue(3);
+		resolver.resolveDependency("one");
+		resolver.resolveDependency("two");
+		assertThat(resolutions.get()).isGreaterThan(3);
+	}
+
+}
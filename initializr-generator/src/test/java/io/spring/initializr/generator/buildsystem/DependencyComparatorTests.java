@@ -45,6 +45,18 @@ class DependencyComparatorTests {
 		assertThat(this.comparator.compare(SPRING_BOOT_A, SPRING_BOOT_B)).isNegative();
 	}
 
+	@Test
+	void compareStartersWithDifferentGroupIdsUsesArtifactId() {
+		assertThat(this.comparator.compare(
+				new Dependency("org.springframework.boot.experimental", "spring-boot-a"),
+				SPRING_BOOT_B)).isNegative();
+	}
+
+	@Test
+	void compareSameInstance() {
+		assertThat(this.comparator.compare(LIB_ALPHA, LIB_ALPHA)).isZero();
+	}
+
 	@Test
 	void compareStarterToLib() {
 		assertThat(this.comparator.compare(SPRING_BOOT_A, LIB_BETA)).isNegative();
@@ -16,6 +16,9 @@
 
 package io.spring.initializr.generator.buildsystem;
 
+import java.util.List;
+import java.util.Map;
+
 import io.spring.initializr.generator.version.VersionReference;
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +65,60 @@ class DependencyContainerTests {
 		assertThat(custom.getScope()).isEqualTo(DependencyScope.COMPILE);
 	}
 
+	@Test
+	void byScopeGroupsAndSortsDependencies() {
+		DependencyContainer container = createTestContainer();
+		container.add("web", "org.springframework.boot", "spring-boot-starter-web",
+				DependencyScope.COMPILE);
+		container.add("test", "org.springframework.boot", "spring-boot-starter-test",
+				DependencyScope.TEST_COMPILE);
+		container.add("acme", "com.example", "acme", DependencyScope.COMPILE);
+		container.add("h2", "com.h2database", "h2", DependencyScope.RUNTIME);
+		Map<DependencyScope, List<Dependency>> byScope = container.byScope();
+		assertThat(byScope.get(DependencyScope.COMPILE))
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-web", "acme");
+		assertThat(byScope.get(DependencyScope.RUNTIME))
+				.extracting(Dependency::getArtifactId).containsExactly("h2");
+		assertThat(byScope.get(DependencyScope.TEST_COMPILE))
+				.extracting(Dependency::getArtifactId)
+				.containsExactly("spring-boot-starter-test");
+	}
+
+	@Test
+	void byScopeMapsScopeWithNoDependencyToEmptyList() {
+		DependencyContainer container = createTestContainer();
+		container.add("web", "org.springframework.boot", "spring-boot-starter-web",
+				DependencyScope.COMPILE);
+		Map<DependencyScope, List<Dependency>> byScope = container.byScope();
+		assertThat(byScope).containsOnlyKeys(DependencyScope.values());
+		assertThat(byScope.get(DependencyScope.PROVIDED_RUNTIME)).isEmpty();
+	}
+
+	@Test
+	void byScopeListsDependencyRegisteredWithSeveralIdsOnce() {
+		DependencyContainer container = createTestContainer();
+		Dependency web = new Dependency("org.springframework.boot",
+				"spring-boot-starter-web", DependencyScope.COMPILE);
+		container.add("web", web);
+		container.add("web-alias", web);
+		assertThat(container.byScope().get(DependencyScope.COMPILE)).containsExactly(web);
+	}
+
+	@Test
+	void byScopeIsReusedUntilContainerChanges() {
+		DependencyContainer container = createTestContainer();
+		container.add("web", "org.springframework.boot", "spring-boot-starter-web",
+				DependencyScope.COMPILE);
+		Map<DependencyScope, List<Dependency>> byScope = container.byScope();
+		assertThat(container.byScope()).isSameAs(byScope);
+		container.add("acme", "com.example", "acme", DependencyScope.COMPILE);
+		assertThat(container.byScope().get(DependencyScope.COMPILE)).hasSize(2);
+		container.remove("web");
+		assertThat(container.byScope().get(DependencyScope.COMPILE))
+				.extracting(Dependency::getArtifactId).containsExactly("acme");
+	}
+
 	private DependencyContainer createTestContainer() {
 		return new DependencyContainer((id) -> null);
 	}
@@ -21,6 +21,7 @@ import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.List;
 
+import io.spring.initializr.generator.buildsystem.Dependency;
 import io.spring.initializr.generator.buildsystem.DependencyScope;
 import io.spring.initializr.generator.io.IndentingWriter;
 import io.spring.initializr.generator.version.VersionProperty;
@@ -305,6 +306,18 @@ class GradleBuildWriterTests {
 				"    runtimeOnly 'com.example:jdbc-driver:1.0.0'", "}");
 	}
 
+	@Test
+	void gradleBuildWithDependencyRegisteredTwice() throws IOException {
+		GradleBuild build = new GradleBuild();
+		Dependency driver = new Dependency("com.example", "jdbc-driver",
+				VersionReference.ofValue("1.0.0"), DependencyScope.RUNTIME);
+		build.dependencies().add("driver", driver);
+		build.dependencies().add("driver-alias", driver);
+		List<String> lines = generateBuild(build);
+		assertThat(lines).containsSequence("dependencies {",
+				"    runtimeOnly 'com.example:jdbc-driver:1.0.0'", "}");
+	}
+
 	@Test
 	void gradleBuildWithProvidedRuntimeDependency() throws IOException {
 		GradleBuild build = new GradleBuild();
@@ -66,6 +66,29 @@ class MavenBuildWriterTests {
 		});
 	}
 
+	@Test
+	void pomWithSpecialCharactersIsEscaped() throws Exception {
+		MavenBuild build = new MavenBuild();
+		build.setGroup("com.example.demo");
+		build.setArtifact("demo");
+		build.setName("Tom & Jerry");
+		build.setDescription("A <demo> project for \"Spring Boot\" & 'friends'");
+		build.setProperty("custom", "a<b");
+		MavenPlugin plugin = build.plugin("org.apache.maven.plugins",
+				"maven-surefire-plugin");
+		plugin.configuration(
+				(configuration) -> configuration.add("argLine", "-Dtest=a&b"));
+		generatePom(build, (pom) -> {
+			assertThat(pom).textAtPath("/project/name").isEqualTo("Tom & Jerry");
+			assertThat(pom).textAtPath("/project/description")
+					.isEqualTo("A <demo> project for \"Spring Boot\" & 'friends'");
+			assertThat(pom).textAtPath("/project/properties/custom").isEqualTo("a<b");
+			assertThat(pom)
+					.textAtPath("/project/build/plugins/plugin/configuration/argLine")
+					.isEqualTo("-Dtest=a&b");
+		});
+	}
+
 	@Test
 	void pomWithParent() throws Exception {
 		MavenBuild build = new MavenBuild();
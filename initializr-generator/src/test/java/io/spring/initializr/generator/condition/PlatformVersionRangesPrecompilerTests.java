@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.condition;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PlatformVersionRangesPrecompiler}.
+ *
+ * @author Initializr Team
+ */
+class PlatformVersionRangesPrecompilerTests {
+
+	@Test
+	void precompilerIsRegisteredInSpringFactories() {
+		assertThat(SpringFactoriesLoader.loadFactoryNames(ApplicationListener.class,
+				getClass().getClassLoader()))
+						.contains(PlatformVersionRangesPrecompiler.class.getName());
+	}
+
+	@Test
+	void refreshWithValidRanges() {
+		try (GenericApplicationContext context = createContext("valid.factories")) {
+			context.refresh();
+			assertThat(context.isActive()).isTrue();
+		}
+	}
+
+	@Test
+	void refreshWithInvalidRangeFails() {
+		try (GenericApplicationContext context = createContext("invalid.factories")) {
+			assertThatIllegalStateException().isThrownBy(context::refresh)
+					.withMessageContaining("'2.0.0.M1]'");
+		}
+	}
+
+	private GenericApplicationContext createContext(String factories) {
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.setClassLoader(classLoader(factories));
+		context.addApplicationListener(new PlatformVersionRangesPrecompiler());
+		return context;
+	}
+
+	private ClassLoader classLoader(String factories) {
+		URL resource = PlatformVersionRangesTests.class.getResource(factories);
+		return new ClassLoader(getClass().getClassLoader()) {
+
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+					return Collections.enumeration(Collections.singletonList(resource));
+				}
+				return super.getResources(name);
+			}
+
+		};
+	}
+
+}
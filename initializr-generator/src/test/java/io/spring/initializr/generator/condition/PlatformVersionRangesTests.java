@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.condition;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+
+import io.spring.initializr.generator.version.InvalidVersionException;
+import io.spring.initializr.generator.version.Version;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PlatformVersionRanges}.
+ *
+ * @author Initializr Team
+ */
+class PlatformVersionRangesTests {
+
+	@Test
+	void getParsesRangeOnce() {
+		assertThat(PlatformVersionRanges.get("[1.5.0.M1, 2.0.0.M1)"))
+				.isSameAs(PlatformVersionRanges.get("[1.5.0.M1, 2.0.0.M1)"));
+		assertThat(PlatformVersionRanges.get("[1.5.0.M1, 2.0.0.M1)")
+				.match(Version.parse("1.5.3.RELEASE"))).isTrue();
+	}
+
+	@Test
+	void getWithInvalidRange() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> PlatformVersionRanges.get("2.0.0.M1]"));
+	}
+
+	@Test
+	void precompileCollectsRangesOfNestedAndImportedClasses() {
+		assertThat(PlatformVersionRanges.precompile(classLoader("valid.factories")))
+				.containsOnlyKeys("2.0.0.M1", "[1.5.0.M1,2.0.0.M1)", "2.1.0.M1");
+	}
+
+	@Test
+	void precompileWithInvalidRange() {
+		assertThatIllegalStateException().isThrownBy(
+				() -> PlatformVersionRanges.precompile(classLoader("invalid.factories")))
+				.withMessageContaining("'2.0.0.M1]'")
+				.withMessageContaining(InvalidConfiguration.class.getName() + "#invalid");
+	}
+
+	private ClassLoader classLoader(String factories) {
+		URL resource = getClass().getResource(factories);
+		return new ClassLoader(getClass().getClassLoader()) {
+
+			@Override
+			public Enumeration<URL> getResources(String name) throws IOException {
+				if (SpringFactoriesLoader.FACTORIES_RESOURCE_LOCATION.equals(name)) {
+					return Collections.enumeration(Collections.singletonList(resource));
+				}
+				return super.getResources(name);
+			}
+
+		};
+	}
+
+	@Configuration
+	@ConditionalOnPlatformVersion("2.0.0.M1")
+	@Import(ImportedConfiguration.class)
+	static class ValidConfiguration {
+
+		@Bean
+		@ConditionalOnPlatformVersion("[1.5.0.M1,2.0.0.M1)")
+		String one() {
+			return "one";
+		}
+
+		@Configuration
+		static class NestedConfiguration {
+
+			@Bean
+			@ConditionalOnPlatformVersion("2.0.0.M1")
+			String two() {
+				return "two";
+			}
+
+		}
+
+	}
+
+	@Configuration
+	static class ImportedConfiguration {
+
+		@Bean
+		@ConditionalOnPlatformVersion("2.1.0.M1")
+		String three() {
+			return "three";
+		}
+
+	}
+
+	@Configuration
+	static class InvalidConfiguration {
+
+		@Bean
+		@ConditionalOnPlatformVersion("2.0.0.M1]")
+		String invalid() {
+			return "invalid";
+		}
+
+	}
+
+}
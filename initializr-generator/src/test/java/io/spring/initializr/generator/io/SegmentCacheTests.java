@@ -0,0 +1,133 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.io.StringWriter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SegmentCache}.
+ *
+ * @author Initializr Team
+ */
+class SegmentCacheTests {
+
+	private final SegmentCache cache = new SegmentCache(16);
+
+	private final AtomicInteger renderings = new AtomicInteger();
+
+	@Test
+	void writeSegmentIsRenderedOnce() {
+		assertThat(writeIndented(0))
+				.isEqualTo(String.format("before%nblock {%n    content%n}%nafter%n"));
+		assertThat(writeIndented(0))
+				.isEqualTo(String.format("before%nblock {%n    content%n}%nafter%n"));
+		assertThat(this.renderings).hasValue(1);
+	}
+
+	@Test
+	void writeSegmentAtDifferentLevel() {
+		writeIndented(0);
+		assertThat(writeIndented(1)).isEqualTo(
+				String.format("before%n    block {%n        content%n    }%nafter%n"));
+		assertThat(this.renderings).hasValue(2);
+	}
+
+	@Test
+	void writeSegmentWithDifferentIndentStrategy() {
+		writeIndented(0);
+		StringWriter out = new StringWriter();
+		IndentingWriter writer = new IndentingWriter(out, new SimpleIndentStrategy("\t"));
+		writeSegment(writer);
+		assertThat(out.toString()).isEqualTo(String.format("block {%n\tcontent%n}%n"));
+		assertThat(this.renderings).hasValue(2);
+	}
+
+	@Test
+	void writeSegmentWithCustomIndentStrategyIsNotCached() {
+		for (int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			IndentingWriter writer = new IndentingWriter(out,
+					(level) -> (level > 0) ? "  " : "");
+			writeSegment(writer);
+			assertThat(out.toString())
+					.isEqualTo(String.format("block {%n  content%n}%n"));
+		}
+		assertThat(this.renderings).hasValue(2);
+	}
+
+	@Test
+	void writeSegmentWhenFullIsNotCached() {
+		SegmentCache cache = new SegmentCache(1);
+		for (int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			IndentingWriter writer = new IndentingWriter(out);
+			cache.write(writer, "first", () -> {
+				this.renderings.incrementAndGet();
+				writer.println("first");
+			});
+			cache.write(writer, "second", () -> {
+				this.renderings.incrementAndGet();
+				writer.println("second");
+			});
+			assertThat(out.toString()).isEqualTo(String.format("first%nsecond%n"));
+		}
+		assertThat(this.renderings).hasValue(3);
+	}
+
+	@Test
+	void writeSegmentWithoutTrailingNewLine() {
+		for (int i = 0; i < 2; i++) {
+			StringWriter out = new StringWriter();
+			IndentingWriter writer = new IndentingWriter(out);
+			writer.indented(() -> {
+				this.cache.write(writer, "inline", () -> writer.print("a"));
+				writer.println("b");
+				writer.println("c");
+			});
+			assertThat(out.toString()).isEqualTo(String.format("ab%n    c%n"));
+		}
+	}
+
+	private String writeIndented(int level) {
+		StringWriter out = new StringWriter();
+		IndentingWriter writer = new IndentingWriter(out);
+		writer.println("before");
+		if (level == 0) {
+			writeSegment(writer);
+		}
+		else {
+			writer.indented(() -> writeSegment(writer));
+		}
+		writer.println("after");
+		return out.toString();
+	}
+
+	private void writeSegment(IndentingWriter writer) {
+		this.cache.write(writer, "block", () -> {
+			this.renderings.incrementAndGet();
+			writer.println("block {");
+			writer.indented(() -> writer.println("content"));
+			writer.println("}");
+		});
+	}
+
+}
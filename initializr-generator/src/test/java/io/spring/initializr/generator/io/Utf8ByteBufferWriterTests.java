@@ -0,0 +1,124 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+/**
+ * Tests for {@link Utf8ByteBufferWriter}.
+ *
+ * @author Initializr Team
+ */
+class Utf8ByteBufferWriterTests {
+
+	private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+	@Test
+	void writeAscii() throws IOException {
+		assertEncoding("Hello World\n", 4);
+	}
+
+	@Test
+	void writeMultiBytesCharacters() throws IOException {
+		assertEncoding("café über € 100 日本", 4);
+	}
+
+	@Test
+	void writeSupplementaryCharacters() throws IOException {
+		assertEncoding("a😀b𝄞c", 4);
+	}
+
+	@Test
+	void writeContentLargerThanBuffer() throws IOException {
+		StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 500; i++) {
+			content.append("<dependency>é😀</dependency>\n");
+		}
+		assertEncoding(content.toString(), 16);
+	}
+
+	@Test
+	void writeSurrogatePairSplitAcrossWrites() throws IOException {
+		try (Utf8ByteBufferWriter writer = new Utf8ByteBufferWriter(this.out)) {
+			writer.write("a\uD83D");
+			writer.flush();
+			writer.write(new char[] { '\uDE00', 'b' });
+		}
+		assertThat(this.out.toByteArray())
+				.isEqualTo("a😀b".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void writeMalformedSurrogatesUsesReplacement() throws IOException {
+		try (Utf8ByteBufferWriter writer = new Utf8ByteBufferWriter(this.out)) {
+			writer.write("a\uDE00b\uD83Dc\uD83D");
+		}
+		assertThat(new String(this.out.toByteArray(), StandardCharsets.UTF_8))
+				.isEqualTo("a?b?c?");
+	}
+
+	@Test
+	void writeSingleCharacter() throws IOException {
+		try (Utf8ByteBufferWriter writer = new Utf8ByteBufferWriter(this.out)) {
+			writer.write('a');
+			writer.write('é');
+		}
+		assertThat(new String(this.out.toByteArray(), StandardCharsets.UTF_8))
+				.isEqualTo("aé");
+	}
+
+	@Test
+	void writeAfterCloseFails() throws IOException {
+		Utf8ByteBufferWriter writer = new Utf8ByteBufferWriter(this.out);
+		writer.close();
+		assertThatIOException().isThrownBy(() -> writer.write("test"));
+	}
+
+	@Test
+	void createTruncatesExistingFile(@TempDir Path directory) throws IOException {
+		Path file = Files.write(directory.resolve("test.txt"),
+				"a much longer content".getBytes(StandardCharsets.UTF_8));
+		try (IndentingWriter writer = new IndentingWriter(
+				Utf8ByteBufferWriter.create(file))) {
+			writer.println("test");
+			writer.indented(() -> writer.println("été"));
+		}
+		assertThat(Files.readAllLines(file, StandardCharsets.UTF_8))
+				.containsExactly("test", "    été");
+	}
+
+	private void assertEncoding(String content, int bufferSize) throws IOException {
+		try (Utf8ByteBufferWriter writer = new Utf8ByteBufferWriter(
+				Channels.newChannel(this.out), bufferSize)) {
+			writer.write(content);
+		}
+		assertThat(this.out.toByteArray())
+				.isEqualTo(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
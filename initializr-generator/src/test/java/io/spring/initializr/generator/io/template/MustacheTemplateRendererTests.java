@@ -17,15 +17,24 @@
 package io.spring.initializr.generator.io.template;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 
 /**
  * Tests for {@link MustacheTemplateRenderer}.
@@ -66,4 +75,117 @@ class MustacheTemplateRendererTests {
 				.withMessageContaining("does-not-exist");
 	}
 
+	@Test
+	void watchReloadsChangedTemplate(@TempDir Path directory) throws Exception {
+		writeTemplate(directory, "test", "v1 {{key}}");
+		writeTemplate(directory, "another", "another {{key}}");
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString(), this.templatesCache);
+		Map<String, String> model = Collections.singletonMap("key", "value");
+		assertThat(render.render("test", model)).isEqualTo("v1 value");
+		assertThat(render.render("another", model)).isEqualTo("another value");
+		try (MustacheTemplateWatcher watcher = render.watch(directory)) {
+			writeTemplate(directory, "test", "v2 {{key}}");
+			assertEventuallyRenders(render, "test", model, "v2 value");
+			assertThat(render.render("another", model)).isEqualTo("another value");
+		}
+	}
+
+	@Test
+	void watchKeepsPreviousTemplateIfNewVersionIsInvalid(@TempDir Path directory)
+			throws Exception {
+		writeTemplate(directory, "test", "v1 {{key}}");
+		writeTemplate(directory, "sentinel", "v1");
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString(), this.templatesCache);
+		Map<String, String> model = Collections.singletonMap("key", "value");
+		assertThat(render.render("test", model)).isEqualTo("v1 value");
+		assertThat(render.render("sentinel", model)).isEqualTo("v1");
+		try (MustacheTemplateWatcher watcher = render.watch(directory)) {
+			writeTemplate(directory, "test", "{{#key}}invalid");
+			writeTemplate(directory, "sentinel", "v2");
+			assertEventuallyRenders(render, "sentinel", model, "v2");
+			assertThat(render.render("test", model)).isEqualTo("v1 value");
+		}
+	}
+
+	@Test
+	void watchKeepsPreviousTemplateIfNewVersionIsEmpty(@TempDir Path directory)
+			throws Exception {
+		writeTemplate(directory, "test", "v1 {{key}}");
+		writeTemplate(directory, "sentinel", "v1");
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString(), this.templatesCache);
+		Map<String, String> model = Collections.singletonMap("key", "value");
+		assertThat(render.render("test", model)).isEqualTo("v1 value");
+		assertThat(render.render("sentinel", model)).isEqualTo("v1");
+		try (MustacheTemplateWatcher watcher = render.watch(directory)) {
+			writeTemplate(directory, "test", "");
+			writeTemplate(directory, "sentinel", "v2");
+			assertEventuallyRenders(render, "sentinel", model, "v2");
+			assertThat(render.render("test", model)).isEqualTo("v1 value");
+		}
+	}
+
+	@Test
+	void watchWaitsForChangesToSettle(@TempDir Path directory) throws Exception {
+		writeTemplate(directory, "test", "v1 {{key}}");
+		RecordingCache cache = new RecordingCache();
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString(), cache);
+		Map<String, String> model = Collections.singletonMap("key", "value");
+		assertThat(render.render("test", model)).isEqualTo("v1 value");
+		try (MustacheTemplateWatcher watcher = new MustacheTemplateWatcher(render,
+				directory, Duration.ofSeconds(1))) {
+			writeTemplate(directory, "test", "");
+			writeTemplate(directory, "test", "v2");
+			writeTemplate(directory, "test", "v2 {{key}}");
+			assertEventuallyRenders(render, "test", model, "v2 value");
+			assertThat(cache.updatedKeys).hasSize(1);
+		}
+	}
+
+	@Test
+	void watchWithoutCacheIsNotAllowed(@TempDir Path directory) {
+		MustacheTemplateRenderer render = new MustacheTemplateRenderer(
+				directory.toUri().toString());
+		assertThatIllegalStateException().isThrownBy(() -> render.watch(directory))
+				.withMessageContaining("template cache");
+	}
+
+	private void writeTemplate(Path directory, String name, String content)
+			throws IOException {
+		Files.write(directory.resolve(name + ".mustache"),
+				content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private void assertEventuallyRenders(MustacheTemplateRenderer render,
+			String templateName, Map<String, ?> model, String expected) throws Exception {
+		long timeout = System.currentTimeMillis() + 10000;
+		while (System.currentTimeMillis() < timeout) {
+			if (expected.equals(render.render(templateName, model))) {
+				return;
+			}
+			Thread.sleep(50);
+		}
+		assertThat(render.render(templateName, model)).isEqualTo(expected);
+	}
+
+	private static class RecordingCache extends ConcurrentMapCache {
+
+		private final List<Object> updatedKeys = Collections
+				.synchronizedList(new ArrayList<>());
+
+		RecordingCache() {
+			super("test");
+		}
+
+		@Override
+		public void put(Object key, Object value) {
+			this.updatedKeys.add(key);
+			super.put(key, value);
+		}
+
+	}
+
 }
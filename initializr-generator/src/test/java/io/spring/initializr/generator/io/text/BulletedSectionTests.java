@@ -98,4 +98,20 @@ class BulletedSectionTests {
 				.containsOnly(entry("elements", Collections.singletonList("test")));
 	}
 
+	@Test
+	void bulletedSectionEmptyHasNoEstimatedSize() {
+		assertThat(new BulletedSection<String>(this.renderer, "test").estimatedSize())
+				.isEqualTo(0);
+	}
+
+	@Test
+	void bulletedSectionEstimatedSizeUsesItemSizeEstimator() {
+		BulletedSection<String> section = new BulletedSection<>(this.renderer, "test",
+				"items", String::length);
+		section.addItem("test");
+		int singleItemSize = section.estimatedSize();
+		section.addItem("another");
+		assertThat(section.estimatedSize()).isEqualTo(singleItemSize + 7);
+	}
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.spring.initializr.generator.version;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+
+import io.spring.initializr.generator.version.Version.Qualifier;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link VersionCodec}.
+ *
+ * @author Initializr Team
+ */
+class VersionCodecTests {
+
+	@Test
+	void versionRoundTrip() throws IOException {
+		for (String text : new String[] { "2.1.0.RELEASE", "1.5.19.RELEASE", "2.2.0.M1",
+				"2.1.0.RC2", "2.1.3.BUILD-SNAPSHOT", "1.3.21", "1.0.0.Alpha12",
+				"2.0.0.SR5", "1.0.0.BUILD-SNAPSHOT5",
+				"100000.20000.3000000.RC123456789" }) {
+			Version version = Version.parse(text);
+			assertThat(readVersion(writeVersion(version))).as(text).isEqualTo(version)
+					.hasToString(text);
+		}
+	}
+
+	@Test
+	void versionWithNullAndNegativeFieldsRoundTrip() throws IOException {
+		Version version = new Version(null, -1, Integer.MIN_VALUE,
+				new Qualifier(null, Integer.MAX_VALUE));
+		assertThat(readVersion(writeVersion(version))).isEqualTo(version);
+		Version empty = new Version(null, null, null, null);
+		assertThat(readVersion(writeVersion(empty))).isEqualTo(empty);
+	}
+
+	@Test
+	void versionIsCompact() throws IOException {
+		assertThat(writeVersion(Version.parse("2.1.0.RELEASE"))).hasSize(4);
+		assertThat(writeVersion(Version.parse("2.2.0.M1"))).hasSize(5);
+	}
+
+	@Test
+	void versionSharesKnownQualifier() throws IOException {
+		Version first = readVersion(writeVersion(Version.parse("2.1.0.RELEASE")));
+		Version second = readVersion(writeVersion(Version.parse("2.0.8.RELEASE")));
+		assertThat(first.getQualifier()).isSameAs(second.getQualifier());
+	}
+
+	@Test
+	void versionWithUnknownQualifierOrdinal() {
+		assertThatExceptionOfType(StreamCorruptedException.class)
+				.isThrownBy(() -> readVersion(new byte[] { (byte) 0x70 }))
+				.withMessageContaining("Unknown qualifier ordinal");
+	}
+
+	@Test
+	void versionWithMalformedNumber() {
+		assertThatExceptionOfType(StreamCorruptedException.class)
+				.isThrownBy(() -> readVersion(new byte[] { 0x01, (byte) 0xFF, (byte) 0xFF,
+						(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01 }))
+				.withMessageContaining("Malformed");
+	}
+
+	@Test
+	void versionRangeRoundTrip() throws IOException {
+		for (String text : new String[] { "[1.5.0.RELEASE,2.0.0.M1)",
+				"(2.0.0.RELEASE,2.1.0.RELEASE]", "2.1.0.M1",
+				"[2.0.0.RELEASE,2.0.0.RELEASE]" }) {
+			VersionRange range = VersionParser.DEFAULT.parseRange(text);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			VersionCodec.writeVersionRange(new DataOutputStream(out), range);
+			assertThat(VersionCodec.readVersionRange(input(out.toByteArray()))).as(text)
+					.isEqualTo(range);
+		}
+	}
+
+	@Test
+	void versionPropertyRoundTripReturnsCanonicalInstance() throws IOException {
+		for (VersionProperty property : new VersionProperty[] {
+				VersionProperty.of("spring-boot.version"),
+				VersionProperty.of("kotlin.version", false) }) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			VersionCodec.writeVersionProperty(new DataOutputStream(out), property);
+			assertThat(VersionCodec.readVersionProperty(input(out.toByteArray())))
+					.isSameAs(property);
+		}
+	}
+
+	@Test
+	void versionReferenceRoundTrip() throws IOException {
+		for (VersionReference reference : new VersionReference[] {
+				VersionReference.ofValue("1.2.3.RELEASE"),
+				VersionReference.ofProperty("spring-boot.version"),
+				VersionReference.ofProperty(VersionProperty.of("foo.version", false)),
+				VersionReference.ofValue(null) }) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			VersionCodec.writeVersionReference(new DataOutputStream(out), reference);
+			assertThat(VersionCodec.readVersionReference(input(out.toByteArray())))
+					.isEqualTo(reference);
+		}
+	}
+
+	@Test
+	void versionReferenceWithUnknownKind() {
+		assertThatExceptionOfType(StreamCorruptedException.class).isThrownBy(
+				() -> VersionCodec.readVersionReference(input(new byte[] { 0x09 })))
+				.withMessageContaining("Unknown version reference kind 9");
+	}
+
+	@Test
+	void javaSerializationUsesCodec() throws Exception {
+		Version version = Version.parse("2.1.0.RC1");
+		VersionRange range = VersionParser.DEFAULT.parseRange("[1.5.0.RELEASE,2.0.0.M1)");
+		VersionProperty property = VersionProperty.of("spring-boot.version");
+		VersionReference reference = VersionReference.ofProperty(property);
+		assertThat(deserialize(serialize(version))).isEqualTo(version);
+		assertThat(deserialize(serialize(range))).isEqualTo(range);
+		assertThat(deserialize(serialize(property))).isSameAs(property);
+		assertThat(deserialize(serialize(reference))).isEqualTo(reference);
+	}
+
+	@Test
+	void javaSerializationWritesProxy() throws Exception {
+		byte[] bytes = serialize(Version.parse("2.1.0.RELEASE"));
+		assertThat(new String(bytes, "ISO-8859-1"))
+				.contains(VersionSerializationProxy.class.getName());
+	}
+
+	private static byte[] writeVersion(Version version) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		VersionCodec.writeVersion(new DataOutputStream(out), version);
+		return out.toByteArray();
+	}
+
+	private static Version readVersion(byte[] bytes) throws IOException {
+		return VersionCodec.readVersion(input(bytes));
+	}
+
+	private static DataInputStream input(byte[] bytes) {
+		return new DataInputStream(new ByteArrayInputStream(bytes));
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+			stream.writeObject(object);
+		}
+		return out.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws Exception {
+		try (ObjectInputStream stream = new ObjectInputStream(
+				new ByteArrayInputStream(bytes))) {
+			return stream.readObject();
+		}
+	}
+
+}
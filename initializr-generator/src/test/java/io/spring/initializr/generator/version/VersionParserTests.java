@@ -58,6 +58,25 @@ class VersionParserTests {
 				.isThrownBy(() -> this.parser.parse("foo"));
 	}
 
+	@Test
+	void parseInvalidVersionMessage() {
+		for (String text : new String[] { "1.2", "1.2.3.", "1.2.3.RC1a", "1.2.3RC1",
+				"1.xx.3", "a.2.3", "1.2.3.4" }) {
+			assertThatExceptionOfType(InvalidVersionException.class)
+					.isThrownBy(() -> this.parser.parse(text))
+					.withMessage("Could not determine version based on '" + text
+							+ "': version format is Minor.Major.Patch.Qualifier "
+							+ "(e.g. 1.0.5.RELEASE)");
+		}
+	}
+
+	@Test
+	void parseQualifierWithSeparators() {
+		Version version = this.parser.parse("1.2.0.BUILD-SNAPSHOT");
+		assertThat(version.getQualifier().getQualifier()).isEqualTo("BUILD-SNAPSHOT");
+		assertThat(version.getQualifier().getVersion()).isNull();
+	}
+
 	@Test
 	void safeParseInvalidVersion() {
 		assertThat(this.parser.safeParse("foo")).isNull();
@@ -122,10 +141,103 @@ class VersionParserTests {
 		assertThat(this.parser.parse("1.2.x").toString()).isEqualTo("1.2.999");
 	}
 
+	@Test
+	void parseVariableVersionSeveralMatches() {
+		List<Version> currentVersions = Arrays.asList(this.parser.parse("1.3.8.RELEASE"),
+				this.parser.parse("1.4.0.RELEASE"), this.parser.parse("1.4.0.M2"));
+		this.parser = new VersionParser(currentVersions);
+		assertThat(this.parser.parse("1.x.x.RELEASE").toString())
+				.isEqualTo("1.999.999.RELEASE");
+		assertThat(this.parser.parse("1.4.x").toString()).isEqualTo("1.4.999");
+		assertThat(this.parser.parse("1.4.x.M1").toString()).isEqualTo("1.4.999.M1");
+		assertThat(this.parser.parse("1.4.x.M2").toString()).isEqualTo("1.4.0.M2");
+	}
+
+	@Test
+	void parseVariableVersionWithDuplicateLatestVersions() {
+		List<Version> currentVersions = Arrays.asList(this.parser.parse("1.3.8.RELEASE"),
+				this.parser.parse("1.3.8.RELEASE"));
+		this.parser = new VersionParser(currentVersions);
+		assertThat(this.parser.parse("1.3.x.RELEASE").toString())
+				.isEqualTo("1.3.999.RELEASE");
+	}
+
+	@Test
+	void parseWithoutCacheCreatesNewInstances() {
+		assertThat(this.parser.parse("1.2.0.RELEASE"))
+				.isNotSameAs(this.parser.parse("1.2.0.RELEASE"));
+	}
+
+	@Test
+	void parseWithCacheReturnsInternedInstance() {
+		VersionParser parser = new VersionParser(Collections.emptyList(), 8);
+		Version version = parser.parse("1.2.0.RELEASE");
+		assertThat(parser.parse("1.2.0.RELEASE")).isSameAs(version);
+		assertThat(parser.parse("1.2.0.M1")).isNotSameAs(version);
+	}
+
+	@Test
+	void parseRangeWithCacheReturnsInternedInstance() {
+		VersionParser parser = new VersionParser(Collections.emptyList(), 8);
+		VersionRange range = parser.parseRange("[1.5.0.M1,2.0.0.M1)");
+		assertThat(parser.parseRange("[1.5.0.M1,2.0.0.M1)")).isSameAs(range);
+		assertThat(parser.parseRange("[1.5.0.M1,2.0.0.M2)")).isNotSameAs(range);
+	}
+
+	@Test
+	void parseWithCacheIsBounded() {
+		VersionParser parser = new VersionParser(Collections.emptyList(), 2);
+		Version first = parser.parse("1.0.0");
+		parser.parse("1.1.0");
+		parser.parse("1.2.0");
+		parser.parse("1.3.0");
+		assertThat(parser.parse("1.0.0")).isEqualTo(first);
+	}
+
+	@Test
+	void parseWithFullCacheKeepsInternedInstances() {
+		VersionParser parser = new VersionParser(Collections.emptyList(), 2);
+		Version first = parser.parse("1.0.0");
+		Version second = parser.parse("1.1.0");
+		Version third = parser.parse("1.2.0");
+		assertThat(parser.parse("1.0.0")).isSameAs(first);
+		assertThat(parser.parse("1.1.0")).isSameAs(second);
+		assertThat(parser.parse("1.2.0")).isEqualTo(third).isNotSameAs(third);
+	}
+
+	@Test
+	void parseWithCacheDoesNotInternInvalidVersion() {
+		VersionParser parser = new VersionParser(Collections.emptyList(), 8);
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> parser.parse("foo"));
+		assertThat(parser.safeParse("foo")).isNull();
+	}
+
+	@Test
+	void defaultParserInternsVersions() {
+		assertThat(Version.parse("2.1.0.RELEASE"))
+				.isSameAs(VersionParser.DEFAULT.parse("2.1.0.RELEASE"));
+	}
+
 	@Test
 	void invalidRange() {
 		assertThatExceptionOfType(InvalidVersionException.class)
 				.isThrownBy(() -> this.parser.parseRange("foo-bar"));
 	}
 
+	@Test
+	void parseRangeWithSpaces() {
+		VersionRange range = this.parser.parseRange(" [ 1.2.0.RELEASE , 1.3.0.M1 ) ");
+		assertThat(range.toString()).isEqualTo(">=1.2.0.RELEASE and <1.3.0.M1");
+	}
+
+	@Test
+	void parseRangeWithInvalidBound() {
+		assertThatExceptionOfType(InvalidVersionException.class)
+				.isThrownBy(() -> this.parser.parseRange("[1.2.0, foo)"))
+				.withMessage("Could not determine version based on ' foo': "
+						+ "version format is Minor.Major.Patch.Qualifier "
+						+ "(e.g. 1.0.5.RELEASE)");
+	}
+
 }
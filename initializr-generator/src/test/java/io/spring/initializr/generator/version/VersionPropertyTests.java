@@ -16,6 +16,11 @@
 
 package io.spring.initializr.generator.version;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,4 +71,32 @@ class VersionPropertyTests {
 				.withMessageContaining("Unsupported character");
 	}
 
+	@Test
+	void testCamelCasePropertyWithConsecutiveSeparators() {
+		assertThat(VersionProperty.of("-spring..boot-version.").toCamelCaseFormat())
+				.isEqualTo("SpringBootVersion");
+	}
+
+	@Test
+	void ofReturnsCanonicalInstance() {
+		assertThat(VersionProperty.of("spring-boot.version"))
+				.isSameAs(VersionProperty.of("spring-boot.version", true));
+		assertThat(VersionProperty.of("spring-boot.version", false))
+				.isSameAs(VersionProperty.of("spring-boot.version", false))
+				.isNotEqualTo(VersionProperty.of("spring-boot.version"));
+	}
+
+	@Test
+	void deserializeReturnsCanonicalInstance() throws Exception {
+		VersionProperty property = VersionProperty.of("spring-boot.version");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+			stream.writeObject(property);
+		}
+		try (ObjectInputStream stream = new ObjectInputStream(
+				new ByteArrayInputStream(out.toByteArray()))) {
+			assertThat(stream.readObject()).isSameAs(property);
+		}
+	}
+
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012-2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.spring.initializr.generator.version;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link VersionRangeIndex}.
+ *
+ * @author Initializr Team
+ */
+class VersionRangeIndexTests {
+
+	private static final List<String> RANGES = Arrays.asList("1.5.0.RELEASE",
+			"[1.5.0.RELEASE,2.0.0.M1)", "(1.5.0.RELEASE,2.0.0.RELEASE]",
+			"[2.0.0.M1,2.1.0.RELEASE)", "[2.0.0.RELEASE,2.0.0.RELEASE]",
+			"(2.0.0.RELEASE,2.0.0.RELEASE)", "2.1.0.M1");
+
+	private final VersionRangeIndex<String> index = VersionRangeIndex.of(RANGES,
+			VersionParser.DEFAULT::parseRange);
+
+	@Test
+	void matchBeforeAnyRange() {
+		assertThat(this.index.match(Version.parse("1.4.7.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchInclusiveLowerBound() {
+		assertThat(this.index.match(Version.parse("1.5.0.RELEASE")))
+				.containsExactly("1.5.0.RELEASE", "[1.5.0.RELEASE,2.0.0.M1)");
+	}
+
+	@Test
+	void matchExclusiveHigherBound() {
+		assertThat(this.index.match(Version.parse("2.0.0.M1"))).containsExactly(
+				"1.5.0.RELEASE", "(1.5.0.RELEASE,2.0.0.RELEASE]",
+				"[2.0.0.M1,2.1.0.RELEASE)");
+	}
+
+	@Test
+	void matchSingleVersionRange() {
+		assertThat(this.index.match(Version.parse("2.0.0.RELEASE"))).containsExactly(
+				"1.5.0.RELEASE", "(1.5.0.RELEASE,2.0.0.RELEASE]",
+				"[2.0.0.M1,2.1.0.RELEASE)", "[2.0.0.RELEASE,2.0.0.RELEASE]");
+	}
+
+	@Test
+	void matchBoundWithoutQualifier() {
+		assertThat(this.index.match(Version.parse("2.0.0")))
+				.isEqualTo(this.index.match(Version.parse("2.0.0.RELEASE")));
+	}
+
+	@Test
+	void matchUnboundedRange() {
+		assertThat(this.index.match(Version.parse("3.0.0.RELEASE")))
+				.containsExactly("1.5.0.RELEASE", "2.1.0.M1");
+	}
+
+	@Test
+	void matchItemWithoutRange() {
+		VersionRangeIndex<String> index = VersionRangeIndex.of(
+				Arrays.asList("any", "[2.0.0.RELEASE,2.1.0.M1)"),
+				(item) -> item.equals("any") ? null
+						: VersionParser.DEFAULT.parseRange(item));
+		assertThat(index.match(Version.parse("1.0.0.RELEASE"))).containsExactly("any");
+		assertThat(index.match(Version.parse("2.0.5.RELEASE"))).containsExactly("any",
+				"[2.0.0.RELEASE,2.1.0.M1)");
+	}
+
+	@Test
+	void matchWithEmptyIndex() {
+		VersionRangeIndex<String> index = VersionRangeIndex.of(Collections.emptyList(),
+				VersionParser.DEFAULT::parseRange);
+		assertThat(index.match(Version.parse("2.1.0.RELEASE"))).isEmpty();
+	}
+
+	@Test
+	void matchIsConsistentWithVersionRange() {
+		List<Version> versions = new ArrayList<>();
+		for (String qualifier : new String[] { ".M1", ".RC1", ".BUILD-SNAPSHOT",
+				".RELEASE" }) {
+			for (String version : new String[] { "1.4.0", "1.5.0", "1.5.9", "2.0.0",
+					"2.0.1", "2.1.0", "2.2.0" }) {
+				versions.add(Version.parse(version + qualifier));
+			}
+		}
+		for (Version version : versions) {
+			List<String> expected = RANGES.stream().filter(
+					(range) -> VersionParser.DEFAULT.parseRange(range).match(version))
+					.collect(Collectors.toList());
+			assertThat(this.index.match(version)).as(version.toString())
+					.isEqualTo(expected);
+		}
+	}
+
+}
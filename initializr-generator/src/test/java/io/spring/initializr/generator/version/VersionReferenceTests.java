@@ -86,4 +86,10 @@ class VersionReferenceTests {
 						.ofProperty(VersionProperty.of("test.version", true)));
 	}
 
+	@Test
+	void ofValueReturnsSharedInstance() {
+		assertThat(VersionReference.ofValue("1.0.0"))
+				.isSameAs(VersionReference.ofValue("1.0.0"));
+	}
+
 }
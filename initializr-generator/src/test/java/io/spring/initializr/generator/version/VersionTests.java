@@ -113,6 +113,37 @@ class VersionTests {
 		assertThat(parse("1.2.0.Beta1")).isLessThan(parse("1.2.0.Beta2"));
 	}
 
+	@Test
+	void compareUnknownQualifierBeforeQualifierVersion() {
+		assertThat(parse("1.2.0.Beta2")).isLessThan(parse("1.2.0.CR1"));
+	}
+
+	@Test
+	void compareUnknownQualifierWithKnownQualifier() {
+		assertThat(parse("1.2.0.Beta2")).isLessThan(parse("1.2.0.M1"));
+	}
+
+	@Test
+	void compareNoQualifierWithRelease() {
+		assertThat(parse("1.2.0")).isEqualByComparingTo(parse("1.2.0.RELEASE"));
+	}
+
+	@Test
+	void compareLargeVersionNumbers() {
+		assertThat(parse("1.2.10000")).isGreaterThan(parse("1.2.9999"));
+		assertThat(parse("1.2.10000")).isLessThan(parse("1.3.0"));
+		assertThat(parse("20190101.0.0")).isGreaterThan(parse("2.1.0.RELEASE"));
+		assertThat(parse("1.2.0.M300000")).isGreaterThan(parse("1.2.0.M299999"));
+		assertThat(parse("1.2.0.M300000")).isLessThan(parse("1.2.0.RC1"));
+	}
+
+	@Test
+	void compareWithMissingNumbers() {
+		Version version = new Version(1, null, null, null);
+		assertThat(version).isEqualByComparingTo(parse("1.0.0"));
+		assertThat(version).isLessThan(parse("1.0.1"));
+	}
+
 	@Test
 	void snapshotGreaterThanRC() {
 		assertThat(parse("1.2.0.BUILD-SNAPSHOT")).isGreaterThan(parse("1.2.0.RC1"));
@@ -50,7 +50,8 @@ class AzureHelpDocumentCustomizer implements HelpDocumentCustomizer {
 	}
 
 	private boolean hasAzureSupport() {
-		return this.build.dependencies().ids().anyMatch((id) -> id.startsWith("azure"));
+		return this.build.dependencies()
+				.anyMatch((id, dependency) -> id.startsWith("azure"));
 	}
 
 }
@@ -42,8 +42,8 @@ class SpringCloudStreamHelpDocumentCustomizer implements HelpDocumentCustomizer
 	}
 
 	private boolean hasSpringCloudStream() {
-		return this.build.dependencies().items()
-				.anyMatch((dependency) -> requiresBinder(dependency.getArtifactId()));
+		return this.build.dependencies()
+				.anyMatch((id, dependency) -> requiresBinder(dependency.getArtifactId()));
 	}
 
 	private boolean requiresBinder(String artifactId) {